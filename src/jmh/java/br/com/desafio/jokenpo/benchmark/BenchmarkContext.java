@@ -0,0 +1,93 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.engine.RingBufferCommandEngine;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataConflictException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.repository.jdbc.JdbcGameRepository;
+import br.com.desafio.jokenpo.repository.jdbc.JdbcMoveRepository;
+import br.com.desafio.jokenpo.repository.jdbc.JdbcPlayerRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveEntryRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryPlayerRepository;
+import br.com.desafio.jokenpo.repository.memory.NameTables;
+import br.com.desafio.jokenpo.service.GameService;
+import br.com.desafio.jokenpo.stats.Leaderboard;
+import br.com.desafio.jokenpo.stats.PlayerStatsIndex;
+import br.com.desafio.jokenpo.stats.RecentActivity;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.Map;
+
+final class BenchmarkContext {
+
+    static final String[] MOVES = {"Jogada Spock", "Jogada Tesoura", "Jogada Papel", "Jogada Pedra", "Jogada Lagarto"};
+
+    private BenchmarkContext() {
+    }
+
+    static final Class<?>[] BACKENDS = {InMemoryPlayerRepository.class, InMemoryMoveRepository.class,
+            InMemoryMoveEntryRepository.class, InMemoryGameRepository.class, NameTables.class,
+            JdbcPlayerRepository.class, JdbcMoveRepository.class, JdbcGameRepository.class};
+
+    static AnnotationConfigApplicationContext open() {
+        return open("memory");
+    }
+
+    static AnnotationConfigApplicationContext open(String storage) {
+        return open(Collections.singletonMap("jokenpo.storage", storage));
+    }
+
+    /**
+     * Starts the service with the given properties, such as the storage backend selected by
+     * {@code jokenpo.storage} or the single-writer engine enabled by {@code jokenpo.engine.enabled}.
+     */
+    static AnnotationConfigApplicationContext open(Map<String, Object> properties) {
+        String storage = String.valueOf(properties.getOrDefault("jokenpo.storage", "memory"));
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        if ("jdbc".equals(storage)) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+            context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+            context.registerBean(TransactionTemplate.class,
+                    () -> new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+        context.register(BACKENDS);
+        context.register(RingBufferCommandEngine.class);
+        context.register(GameService.class, PlayerStatsIndex.class, Leaderboard.class, RecentActivity.class);
+        context.refresh();
+        return context;
+    }
+
+    static void register(GameService gameService, int players) throws DataConflictException, BadRequestException {
+        for (String move : MOVES) {
+            gameService.createMove(move);
+        }
+        for (int i = 0; i < players; i++) {
+            gameService.createPlayer(player(i));
+        }
+    }
+
+    static void fill(GameService gameService, String room, int entries)
+            throws DataNotFoundException, BadRequestException, DataConflictException {
+        for (int i = 0; i < entries; i++) {
+            gameService.insertMoveEntry(room, entry(i));
+        }
+    }
+
+    static String player(int i) {
+        return "Jogador " + i;
+    }
+
+    static String entry(int i) {
+        return player(i) + " e " + MOVES[i % MOVES.length];
+    }
+
+}
@@ -0,0 +1,70 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.entity.PlayRequest;
+import br.com.desafio.jokenpo.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency of a full round under contention, with the mutations applied on the request threads
+ * or by the single-writer engine. Run with {@code -prof} or the sample mode to compare the tails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class CommandEngineBenchmark {
+
+    @Param({"false", "true"})
+    String engine;
+
+    private AnnotationConfigApplicationContext context;
+    private GameService gameService;
+    private final AtomicInteger rooms = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Room {
+
+        String name;
+
+        @Setup(Level.Trial)
+        public void open(CommandEngineBenchmark benchmark) {
+            name = "sala " + benchmark.rooms.getAndIncrement();
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void open() throws Exception {
+        context = BenchmarkContext.open(Map.of("jokenpo.storage", "memory", "jokenpo.engine.enabled", engine));
+        gameService = context.getBean(GameService.class);
+        BenchmarkContext.register(gameService, 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    public String playRound(Room room) throws Exception {
+        gameService.insertMoveEntry(room.name, BenchmarkContext.entry(0));
+        gameService.insertMoveEntry(room.name, BenchmarkContext.entry(1));
+        return gameService.insertMoveEntry(room.name, PlayRequest.play());
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    int games;
+
+    private AnnotationConfigApplicationContext context;
+    private GameService gameService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void open() throws Exception {
+        context = BenchmarkContext.open();
+        gameService = context.getBean(GameService.class);
+        objectMapper = new ObjectMapper();
+        BenchmarkContext.register(gameService, 3);
+        for (int i = 0; i < games; i++) {
+            BenchmarkContext.fill(gameService, GameService.DEFAULT_ROOM, 3);
+            gameService.insertMoveEntry("Jogar");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] findGames() throws Exception {
+        return objectMapper.writeValueAsBytes(gameService.findGames());
+    }
+
+    @Benchmark
+    public byte[] findGamesPage() throws Exception {
+        return objectMapper.writeValueAsBytes(gameService.findGames(null, GameService.MAX_PAGE_SIZE));
+    }
+
+}
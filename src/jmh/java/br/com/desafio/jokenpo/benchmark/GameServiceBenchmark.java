@@ -0,0 +1,143 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameServiceBenchmark {
+
+    @State(Scope.Thread)
+    public static class Round {
+
+        @Param({"2", "10", "1000", "100000"})
+        int entries;
+
+        AnnotationConfigApplicationContext context;
+        GameService gameService;
+        int next;
+        int room;
+
+        @Setup(Level.Trial)
+        public void open() throws Exception {
+            context = BenchmarkContext.open();
+            gameService = context.getBean(GameService.class);
+            BenchmarkContext.register(gameService, entries);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class FullRound extends Round {
+
+        @Setup(Level.Invocation)
+        public void fill() throws Exception {
+            BenchmarkContext.fill(gameService, GameService.DEFAULT_ROOM, entries);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Registry {
+
+        @Param({"1000", "100000", "1000000"})
+        int players;
+
+        AnnotationConfigApplicationContext context;
+        GameService gameService;
+        int next;
+
+        @Setup(Level.Trial)
+        public void open() throws Exception {
+            context = BenchmarkContext.open();
+            gameService = context.getBean(GameService.class);
+            BenchmarkContext.register(gameService, players);
+            next = players;
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class History {
+
+        @Param({"1000", "100000", "1000000"})
+        int games;
+
+        AnnotationConfigApplicationContext context;
+        GameService gameService;
+
+        @Setup(Level.Trial)
+        public void open() throws Exception {
+            context = BenchmarkContext.open();
+            gameService = context.getBean(GameService.class);
+            BenchmarkContext.register(gameService, 2);
+            for (int i = 0; i < games; i++) {
+                BenchmarkContext.fill(gameService, GameService.DEFAULT_ROOM, 2);
+                gameService.insertMoveEntry("Jogar");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.close();
+        }
+
+    }
+
+    /**
+     * Inserts one entry; every {@code entries} inserts the round is played, so the cost of
+     * "Jogar" is amortized over the entries of its round.
+     */
+    @Benchmark
+    public String insertMoveEntry(Round round) throws Exception {
+        String room = "sala " + round.room;
+        String result = round.gameService.insertMoveEntry(room, BenchmarkContext.entry(round.next));
+        if (++round.next == round.entries) {
+            result = round.gameService.insertMoveEntry(room, "Jogar");
+            round.next = 0;
+            round.room++;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String play(FullRound round) throws Exception {
+        return round.gameService.insertMoveEntry("Jogar");
+    }
+
+    @Benchmark
+    public void createPlayer(Registry registry) throws Exception {
+        registry.gameService.createPlayer(BenchmarkContext.player(registry.next++));
+    }
+
+    @Benchmark
+    public List<MoveEntry> findGameById(History history) throws Exception {
+        return history.gameService.findGameById(ThreadLocalRandom.current().nextInt(history.games));
+    }
+
+}
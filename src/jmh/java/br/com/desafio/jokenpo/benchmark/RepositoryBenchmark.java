@@ -0,0 +1,89 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of the storage operations on the hot path, run the same way for every backend
+ * listed in {@link #storage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RepositoryBenchmark {
+
+    @Param({"memory", "jdbc"})
+    String storage;
+
+    /**
+     * Only read by the jdbc backend.
+     */
+    @Param({"false", "true"})
+    String writeBehind;
+
+    private static final int GAMES = 10000;
+
+    private AnnotationConfigApplicationContext context;
+    private GameRepository gameRepository;
+    private MoveEntryRepository moveEntryRepository;
+    private List<MoveEntry> game;
+    private final AtomicLong rooms = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void open() {
+        context = BenchmarkContext.open(Map.of("jokenpo.storage", storage, "jokenpo.jdbc.write-behind.enabled", writeBehind));
+        gameRepository = context.getBean(GameRepository.class);
+        moveEntryRepository = context.getBean(MoveEntryRepository.class);
+        game = Arrays.asList(new MoveEntry(BenchmarkContext.player(0), BenchmarkContext.MOVES[3]),
+                new MoveEntry(BenchmarkContext.player(1), BenchmarkContext.MOVES[1]));
+        for (int i = 0; i < GAMES; i++) {
+            gameRepository.addGame(game);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer addGame() {
+        return gameRepository.addGame(game);
+    }
+
+    @Benchmark
+    public Optional<List<MoveEntry>> findGameById() {
+        return gameRepository.findGameById(ThreadLocalRandom.current().nextInt(GAMES));
+    }
+
+    @Benchmark
+    public Optional<List<MoveEntry>> playRound() {
+        String room = "sala " + rooms.getAndIncrement();
+        moveEntryRepository.addEntry(room, game.get(0));
+        moveEntryRepository.addEntry(room, game.get(1));
+        return moveEntryRepository.takeEntries(room, 2);
+    }
+
+}
@@ -0,0 +1,60 @@
+package br.com.desafio.jokenpo.benchmark;
+
+import br.com.desafio.jokenpo.rule.GameVariant;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RuleSetBenchmark {
+
+    @Param({"5", "7", "101"})
+    int moves;
+
+    @Param({"2", "100000"})
+    int participants;
+
+    private RuleSet rules;
+    private int[] codes;
+    private long[] mask;
+
+    @Setup(Level.Trial)
+    public void compile() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < moves; i++) {
+            names.add("Gesto " + i);
+        }
+        rules = RuleSet.compile(GameVariant.cyclic("rps-" + moves, names));
+        SplittableRandom random = new SplittableRandom(42);
+        codes = new int[participants];
+        for (int i = 0; i < participants; i++) {
+            codes[i] = random.nextInt(moves);
+        }
+        mask = rules.newMask();
+    }
+
+    @Benchmark
+    public int resolveRound() {
+        Arrays.fill(mask, 0);
+        for (int code : codes) {
+            mask[code >>> 6] |= 1L << code;
+        }
+        return rules.winner(mask);
+    }
+
+}
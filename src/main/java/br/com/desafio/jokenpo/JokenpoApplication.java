@@ -2,8 +2,10 @@ package br.com.desafio.jokenpo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 
-@SpringBootApplication
+// The DataSource is only configured for the jdbc storage, by JdbcStorageConfig.
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
 public class JokenpoApplication {
 
 	public static void main(String[] args) {
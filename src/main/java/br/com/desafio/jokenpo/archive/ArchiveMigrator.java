@@ -0,0 +1,61 @@
+package br.com.desafio.jokenpo.archive;
+
+import br.com.desafio.jokenpo.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "jokenpo.archive.enabled", havingValue = "true")
+public class ArchiveMigrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveMigrator.class);
+
+    @Value("${jokenpo.archive.hot-games:100000}")
+    private int hotGames;
+
+    @Value("${jokenpo.archive.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${jokenpo.archive.interval-ms:1000}")
+    private long intervalMillis;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "jokenpo-archive"));
+        scheduler.scheduleWithFixedDelay(this::migrate, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    void migrate() {
+        try {
+            while (gameRepository.archiveColdGames(hotGames, batchSize) == batchSize) {
+                if (scheduler.isShutdown()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao arquivar jogos antigos", e);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package br.com.desafio.jokenpo.archive;
+
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Columnar, memory-mapped store for cold games. Each game is a fixed-width row (id, entry count,
+ * first entry) and its entries are two primitive columns holding dictionary ids of the player
+ * and of the move. Game ids are appended in ascending order, so lookups are binary searches.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.archive.enabled", havingValue = "true")
+public class GameArchive {
+
+    private static final int GAME_WIDTH = 16;
+    private static final int COLUMN_CHUNK_SHIFT = 26;
+    private static final int META_CHUNK_SHIFT = 12;
+    private static final int MAX_MOVE_ID = 0xFF;
+
+    @Value("${jokenpo.archive.dir:data/archive}")
+    private String dir;
+
+    private MappedColumn meta;
+    private MappedColumn games;
+    private MappedColumn players;
+    private MappedColumn moves;
+    private NameDictionary playerNames;
+    private NameDictionary moveNames;
+    private volatile long gameCount;
+    private long entryCount;
+    private final AtomicLong liveGames = new AtomicLong();
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path directory = Paths.get(dir);
+        Files.createDirectories(directory);
+        meta = new MappedColumn(directory.resolve("archive.meta"), META_CHUNK_SHIFT);
+        games = new MappedColumn(directory.resolve("games.col"), COLUMN_CHUNK_SHIFT);
+        players = new MappedColumn(directory.resolve("players.col"), COLUMN_CHUNK_SHIFT);
+        moves = new MappedColumn(directory.resolve("moves.col"), COLUMN_CHUNK_SHIFT);
+        playerNames = new NameDictionary(directory.resolve("players.dict"));
+        moveNames = new NameDictionary(directory.resolve("moves.dict"));
+        entryCount = meta.getLong(Long.BYTES);
+        long count = meta.getLong(0);
+        long live = 0;
+        for (long index = 0; index < count; index++) {
+            if (games.getInt(index * GAME_WIDTH + Integer.BYTES) >= 0) {
+                live++;
+            }
+        }
+        liveGames.set(live);
+        gameCount = count;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        force();
+        games.close();
+        players.close();
+        moves.close();
+        playerNames.close();
+        moveNames.close();
+        meta.close();
+    }
+
+    public synchronized void append(int id, List<MoveEntry> entries) throws IOException {
+        long count = gameCount;
+        if (count > 0 && id <= games.getInt((count - 1) * GAME_WIDTH)) {
+            throw new IllegalArgumentException("Os jogos devem ser arquivados em ordem crescente de id");
+        }
+        long first = entryCount;
+        for (int i = 0; i < entries.size(); i++) {
+            MoveEntry entry = entries.get(i);
+            int move = moveNames.id(entry.getMove());
+            if (move > MAX_MOVE_ID) {
+                throw new IllegalStateException("O arquivo suporta no máximo " + (MAX_MOVE_ID + 1) + " jogadas distintas");
+            }
+            players.putInt((first + i) * Integer.BYTES, playerNames.id(entry.getPlayer()));
+            moves.put(first + i, (byte) move);
+        }
+        long row = count * GAME_WIDTH;
+        games.putInt(row, id);
+        games.putInt(row + Integer.BYTES, entries.size());
+        games.putLong(row + Long.BYTES, first);
+        entryCount = first + entries.size();
+        // The counters are written last: rows past them are ignored after a crash.
+        meta.putLong(Long.BYTES, entryCount);
+        meta.putLong(0, count + 1);
+        liveGames.incrementAndGet();
+        gameCount = count + 1;
+    }
+
+    public synchronized void force() throws IOException {
+        games.force();
+        players.force();
+        moves.force();
+        playerNames.force();
+        moveNames.force();
+        meta.force();
+    }
+
+    public boolean contains(int id) {
+        return search(id, gameCount) >= 0;
+    }
+
+    public Optional<List<MoveEntry>> findGame(int id) {
+        long index = search(id, gameCount);
+        if (index < 0 || games.getInt(index * GAME_WIDTH + Integer.BYTES) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(entries(index));
+    }
+
+    public synchronized boolean delete(int id) {
+        long index = search(id, gameCount);
+        if (index < 0) {
+            return false;
+        }
+        long row = index * GAME_WIDTH + Integer.BYTES;
+        int count = games.getInt(row);
+        if (count < 0) {
+            return false;
+        }
+        games.putInt(row, ~count);
+        liveGames.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns the first live game whose id is greater than {@code after}, or null.
+     */
+    public Game higher(Integer after) {
+        long count = gameCount;
+        long index = 0;
+        if (after != null) {
+            long found = search(after, count);
+            index = found >= 0 ? found + 1 : -found - 1;
+        }
+        for (; index < count; index++) {
+            if (games.getInt(index * GAME_WIDTH + Integer.BYTES) >= 0) {
+                return new Game(games.getInt(index * GAME_WIDTH), entries(index));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the highest id ever archived, or -1 when the archive is empty. Only greater ids can be appended.
+     */
+    public synchronized int lastId() {
+        long count = gameCount;
+        return count == 0 ? -1 : games.getInt((count - 1) * GAME_WIDTH);
+    }
+
+    public long countGames() {
+        return liveGames.get();
+    }
+
+    private List<MoveEntry> entries(long index) {
+        int count = games.getInt(index * GAME_WIDTH + Integer.BYTES);
+        long first = games.getLong(index * GAME_WIDTH + Long.BYTES);
+        List<MoveEntry> entries = new ArrayList<>(count);
+        for (long entry = first; entry < first + count; entry++) {
+            entries.add(new MoveEntry(playerNames.name(players.getInt(entry * Integer.BYTES)),
+                    moveNames.name(moves.get(entry) & MAX_MOVE_ID)));
+        }
+        return entries;
+    }
+
+    private long search(int id, long count) {
+        long low = 0;
+        long high = count - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int midId = games.getInt(mid * GAME_WIDTH);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.com.desafio.jokenpo.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+final class MappedColumn implements Closeable {
+
+    private final FileChannel channel;
+    private final int chunkShift;
+    private final int chunkMask;
+    private volatile MappedByteBuffer[] chunks;
+
+    MappedColumn(Path path, int chunkShift) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = new MappedByteBuffer[0];
+    }
+
+    int getInt(long offset) {
+        return chunk(offset).getInt((int) (offset & chunkMask));
+    }
+
+    void putInt(long offset, int value) {
+        chunk(offset).putInt((int) (offset & chunkMask), value);
+    }
+
+    long getLong(long offset) {
+        return chunk(offset).getLong((int) (offset & chunkMask));
+    }
+
+    void putLong(long offset, long value) {
+        chunk(offset).putLong((int) (offset & chunkMask), value);
+    }
+
+    byte get(long offset) {
+        return chunk(offset).get((int) (offset & chunkMask));
+    }
+
+    void put(long offset, byte value) {
+        chunk(offset).put((int) (offset & chunkMask), value);
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private MappedByteBuffer chunk(long offset) {
+        int index = (int) (offset >>> chunkShift);
+        MappedByteBuffer[] mapped = chunks;
+        return index < mapped.length ? mapped[index] : map(index);
+    }
+
+    private synchronized MappedByteBuffer map(int index) {
+        MappedByteBuffer[] mapped = chunks;
+        if (index < mapped.length) {
+            return mapped[index];
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(mapped, index + 1);
+        try {
+            for (int i = mapped.length; i <= index; i++) {
+                grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i << chunkShift, 1L << chunkShift);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao mapear o arquivo do arquivo de jogos", e);
+        }
+        chunks = grown;
+        return grown[index];
+    }
+
+}
@@ -0,0 +1,91 @@
+package br.com.desafio.jokenpo.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class NameDictionary implements Closeable {
+
+    private final FileChannel channel;
+    private final Map<String, Integer> ids;
+    private volatile String[] names;
+    private int size;
+
+    NameDictionary(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.ids = new HashMap<>();
+        this.names = new String[64];
+        load();
+    }
+
+    String name(int id) {
+        return names[id];
+    }
+
+    // Called only by the archive writer.
+    int id(String name) throws IOException {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        record.putInt(bytes.length).put(bytes).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        return register(name);
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void load() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        while (content.hasRemaining()) {
+            if (channel.read(content, content.position()) < 0) {
+                break;
+            }
+        }
+        content.flip();
+        while (content.remaining() >= Integer.BYTES) {
+            int length = content.getInt(content.position());
+            if (length < 0 || content.remaining() < Integer.BYTES + length) {
+                break;
+            }
+            content.position(content.position() + Integer.BYTES);
+            register(new String(content.array(), content.position(), length, StandardCharsets.UTF_8));
+            content.position(content.position() + length);
+        }
+        // Drops a name torn by a crash, so the next one is appended at a valid position.
+        channel.truncate(content.position());
+        channel.position(content.position());
+    }
+
+    private int register(String name) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        String[] current = names;
+        current[size] = name;
+        names = current;
+        ids.put(name, size);
+        return size++;
+    }
+
+}
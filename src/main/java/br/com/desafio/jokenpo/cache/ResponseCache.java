@@ -0,0 +1,84 @@
+package br.com.desafio.jokenpo.cache;
+
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+/**
+ * Encoded JSON bodies of read endpoints, keyed by resource. An entry is valid while the
+ * version it was encoded under is still the current version of its repository; the version
+ * is read before loading, so a concurrent change can only make the entry stale, never wrong.
+ */
+@Component
+public class ResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jokenpo.cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public interface Loader<T> {
+        T load() throws DataNotFoundException;
+    }
+
+    public <T> ResponseEntity<byte[]> respond(String resource, long version, String ifNoneMatch, Loader<T> loader)
+            throws DataNotFoundException {
+        Entry entry = entries.get(resource);
+        if (entry == null || entry.version != version) {
+            entry = encode(version, loader.load());
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(resource, entry);
+        }
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(entry.etag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag).build();
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(entry.etag).body(entry.body);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry encode(long version, Object value) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        return new Entry(version, "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"", body);
+    }
+
+    private static final class Entry {
+
+        final long version;
+        final String etag;
+        final byte[] body;
+
+        Entry(long version, String etag, byte[] body) {
+            this.version = version;
+            this.etag = etag;
+            this.body = body;
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.desafio.jokenpo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Brings in the {@code spring.datasource.*} DataSource, and with it the JdbcTemplate and the
+ * transaction manager, only when the repositories are stored through JDBC. The in-memory storage
+ * starts without any DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "jdbc")
+@Import(DataSourceAutoConfiguration.class)
+public class JdbcStorageConfig {
+}
@@ -0,0 +1,21 @@
+package br.com.desafio.jokenpo.controller;
+
+import br.com.desafio.jokenpo.event.SseGameEvents;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/jokenpo")
+public class EventController implements EventControllerDocs {
+
+    @Autowired
+    private SseGameEvents sseGameEvents;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) String room) {
+        return sseGameEvents.subscribe(room);
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.desafio.jokenpo.controller;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Api("Eventos do Jogo JOKENPO")
+public interface EventControllerDocs {
+
+    @ApiOperation(value = "Assina os eventos de jogadas (ENTRY) e de resultados (RESULT) via Server-Sent Events (Utilizar <<room>> para receber apenas os eventos de uma sala)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Fluxo de eventos do jogo")
+    })
+    SseEmitter subscribe(@RequestParam(required = false) String room);
+
+}
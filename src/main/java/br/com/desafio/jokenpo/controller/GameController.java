@@ -1,19 +1,33 @@
 package br.com.desafio.jokenpo.controller;
 
+import br.com.desafio.jokenpo.cache.ResponseCache;
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.LeaderboardEntry;
 import br.com.desafio.jokenpo.entity.Move;
 import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.PlayRequest;
 import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.entity.WindowStats;
 import br.com.desafio.jokenpo.exception.BadRequestException;
 import br.com.desafio.jokenpo.exception.DataConflictException;
 import br.com.desafio.jokenpo.exception.DataNotFoundException;
 import br.com.desafio.jokenpo.service.GameService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/jokenpo")
@@ -22,6 +36,12 @@ public class GameController implements GameControllerDocs {
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseCache responseCache;
+
     @PostMapping("/player")
     public ResponseEntity<Void> createPlayer(@RequestBody String player) throws DataConflictException {
         gameService.createPlayer(player);
@@ -29,8 +49,9 @@ public class GameController implements GameControllerDocs {
     }
 
     @GetMapping("/player")
-    public ResponseEntity<List<Player>> findPlayers() throws DataNotFoundException {
-        return new ResponseEntity<>(gameService.findPlayers(), HttpStatus.OK);
+    public ResponseEntity<byte[]> findPlayers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException {
+        return responseCache.respond("players", gameService.playersVersion(), ifNoneMatch, gameService::findPlayers);
     }
 
     @GetMapping("/player/{player}")
@@ -38,6 +59,18 @@ public class GameController implements GameControllerDocs {
         return new ResponseEntity<>(gameService.findByPlayer(player), HttpStatus.OK);
     }
 
+    @GetMapping("/player/{player}/stats")
+    public ResponseEntity<PlayerStats> findPlayerStats(@PathVariable String player) throws DataNotFoundException {
+        return new ResponseEntity<>(gameService.findPlayerStats(player), HttpStatus.OK);
+    }
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> findLeaderboard(@RequestParam(required = false) Integer k,
+                                                                  @RequestParam(required = false) String by)
+            throws BadRequestException {
+        return new ResponseEntity<>(gameService.findLeaderboard(k, by), HttpStatus.OK);
+    }
+
     @DeleteMapping("/player/{player}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deletePlayer(@PathVariable String player) throws DataConflictException, DataNotFoundException {
@@ -51,8 +84,9 @@ public class GameController implements GameControllerDocs {
     }
 
     @GetMapping("/move")
-    public ResponseEntity<List<Move>> findMoves() throws DataNotFoundException {
-        return new ResponseEntity<>(gameService.findMoves(), HttpStatus.OK);
+    public ResponseEntity<byte[]> findMoves(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException {
+        return responseCache.respond("moves", gameService.movesVersion(), ifNoneMatch, gameService::findMoves);
     }
 
     @GetMapping("/move/{move}")
@@ -73,14 +107,87 @@ public class GameController implements GameControllerDocs {
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    @PostMapping(value = "/play", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> insertPlayRequest(@RequestBody String request) throws BadRequestException,
+            DataNotFoundException, DataConflictException {
+        String result = insertJsonEntry(GameService.DEFAULT_ROOM, request);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/batch/play", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<String>> insertRounds(@RequestBody List<List<String>> rounds)
+            throws BadRequestException, DataNotFoundException, DataConflictException {
+        return new ResponseEntity<>(gameService.insertRounds(rounds), HttpStatus.OK);
+    }
+
+    @PostMapping("/play/{room}")
+    public ResponseEntity<String> insertRoomMoveEntry(@PathVariable String room, @RequestBody String moveEntry)
+            throws BadRequestException, DataNotFoundException, DataConflictException {
+        String result = gameService.insertMoveEntry(room, moveEntry);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/play/{room}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> insertRoomPlayRequest(@PathVariable String room, @RequestBody String request)
+            throws BadRequestException, DataNotFoundException, DataConflictException {
+        String result = insertJsonEntry(room, request);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    // Clients predating the JSON format often label the text protocol as JSON; only objects are read as PlayRequest.
+    private String insertJsonEntry(String room, String body) throws BadRequestException, DataNotFoundException,
+            DataConflictException {
+        String trimmed = body.trim();
+        try {
+            if (trimmed.startsWith("{")) {
+                return gameService.insertMoveEntry(room, objectMapper.readValue(trimmed, PlayRequest.class));
+            }
+            if (trimmed.startsWith("\"")) {
+                return gameService.insertMoveEntry(room, objectMapper.readValue(trimmed, String.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Jogada invalida");
+        }
+        return gameService.insertMoveEntry(room, body);
+    }
+
     @GetMapping("/play")
-    public ResponseEntity<Map<Integer, List<MoveEntry>>> findGames() {
-        return new ResponseEntity<>(gameService.findGames(), HttpStatus.OK);
+    public ResponseEntity<Map<Integer, List<MoveEntry>>> findGames(@RequestParam(required = false) Integer after,
+                                                                   @RequestParam(required = false) Integer limit)
+            throws BadRequestException {
+        if (after == null && limit == null) {
+            return new ResponseEntity<>(gameService.findGames(), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(gameService.findGames(after, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/play", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGames(@RequestParam(required = false) Integer after) {
+        ObjectWriter writer = objectMapper.writerFor(Game.class);
+        StreamingResponseBody body = out -> {
+            try (Stream<Game> games = gameService.streamGames(after)) {
+                Iterator<Game> iterator = games.iterator();
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                }
+            }
+        };
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    @GetMapping("/analytics")
+    public ResponseEntity<List<WindowStats>> findAnalytics(@RequestParam(required = false) Integer minutes,
+                                                           @RequestParam(required = false) Integer games)
+            throws BadRequestException {
+        return new ResponseEntity<>(gameService.findAnalytics(minutes, games), HttpStatus.OK);
     }
 
     @GetMapping("/play/{id}")
-    public ResponseEntity<List<MoveEntry>> findGame(@PathVariable Integer id) throws DataNotFoundException {
-        return new ResponseEntity<>(gameService.findGameById(id), HttpStatus.OK);
+    public ResponseEntity<byte[]> findGame(@PathVariable Integer id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException {
+        return responseCache.respond("play/" + id, gameService.gamesVersion(), ifNoneMatch, () -> gameService.findGameById(id));
     }
 
     @DeleteMapping("/play/{id}")
@@ -1,8 +1,11 @@
 package br.com.desafio.jokenpo.controller;
 
+import br.com.desafio.jokenpo.entity.LeaderboardEntry;
 import br.com.desafio.jokenpo.entity.Move;
 import br.com.desafio.jokenpo.entity.MoveEntry;
 import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.entity.WindowStats;
 import br.com.desafio.jokenpo.exception.BadRequestException;
 import br.com.desafio.jokenpo.exception.DataConflictException;
 import br.com.desafio.jokenpo.exception.DataNotFoundException;
@@ -10,9 +13,11 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -30,9 +35,11 @@ public interface GameControllerDocs {
     @ApiOperation(value = "Retorna uma lista de jogadores cadastrados")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Lista de jogadores cadastrados"),
+            @ApiResponse(code = 304, message = "A lista não mudou desde o ETag informado em If-None-Match"),
             @ApiResponse(code = 404, message = "Não há jogadores cadastrados")
     })
-    ResponseEntity<List<Player>> findPlayers() throws DataNotFoundException;
+    ResponseEntity<byte[]> findPlayers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException;
 
     @ApiOperation(value = "Retorna um jogador registrado pelo nome")
     @ApiResponses(value = {
@@ -41,6 +48,22 @@ public interface GameControllerDocs {
     })
     ResponseEntity<Player> findPlayer(@PathVariable String player) throws DataNotFoundException;
 
+    @ApiOperation(value = "Retorna as vitórias, derrotas, empates e jogadas de um jogador")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Estatísticas do jogador"),
+            @ApiResponse(code = 404, message = "O jogador não está cadastrado")
+    })
+    ResponseEntity<PlayerStats> findPlayerStats(@PathVariable String player) throws DataNotFoundException;
+
+    @ApiOperation(value = "Retorna os k melhores jogadores (Utilizar <<by>> = wins ou winRate para escolher a ordenação)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Classificação dos jogadores"),
+            @ApiResponse(code = 400, message = "O k está fora do limite ou a ordenação é invalida")
+    })
+    ResponseEntity<List<LeaderboardEntry>> findLeaderboard(@RequestParam(required = false) Integer k,
+                                                           @RequestParam(required = false) String by)
+            throws BadRequestException;
+
     @ApiOperation(value = "Exclui um jogador pelo seu nome")
     @ApiResponses(value = {
             @ApiResponse(code = 204, message = "Jogador excluído com sucesso"),
@@ -52,7 +75,7 @@ public interface GameControllerDocs {
     @ApiOperation(value = "Registro de uma nova jogada")
     @ApiResponses(value = {
             @ApiResponse(code = 201, message = "Jogada criada com sucesso"),
-            @ApiResponse(code = 400, message = "Você pode cadastrar apenas os movimentos Spock, Tesoura, Papel, Pedra e Lagarto"),
+            @ApiResponse(code = 400, message = "Você pode cadastrar apenas os movimentos da variante configurada (por padrão Spock, Tesoura, Papel, Pedra e Lagarto)"),
             @ApiResponse(code = 409, message = "A jogada já está cadastrada")
     })
     ResponseEntity<Void> createMove(@RequestBody String move) throws DataConflictException, BadRequestException;
@@ -60,9 +83,11 @@ public interface GameControllerDocs {
     @ApiOperation(value = "Retorna uma lista de jogadas cadastradas")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Lista de jogadas cadastradas"),
+            @ApiResponse(code = 304, message = "A lista não mudou desde o ETag informado em If-None-Match"),
             @ApiResponse(code = 404, message = "Não há jogadas cadastradas")
     })
-    ResponseEntity<List<Move>> findMoves() throws DataNotFoundException;
+    ResponseEntity<byte[]> findMoves(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException;
 
     @ApiOperation(value = "Retorna uma jogada registrada pelo nome")
     @ApiResponses(value = {
@@ -89,18 +114,79 @@ public interface GameControllerDocs {
     ResponseEntity<String> insertMoveEntry(@RequestBody String moveEntry) throws BadRequestException,
             DataNotFoundException, DataConflictException;
 
-    @ApiOperation(value = "Retorna uma lista de jogos cadastrados")
+    @ApiOperation(value = "Registro de uma nova entrada de jogo em JSON (Utilizar <<player>> e <<move>> ou <<action>> = Jogar para realizar o jogo; corpos que não são um objeto JSON seguem o formato texto)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Movimento executado ou resultado do jogo"),
+            @ApiResponse(code = 400, message = "Jogada invalida ou o jogo possui menos que dois jogadores"),
+            @ApiResponse(code = 404, message = "O jogador ou a jogada não está cadastrado"),
+            @ApiResponse(code = 409, message = "O jogador já fez sua jogada")
+    })
+    ResponseEntity<String> insertPlayRequest(@RequestBody String request) throws BadRequestException,
+            DataNotFoundException, DataConflictException;
+
+    @ApiOperation(value = "Realiza várias rodadas em uma única chamada (cada rodada é uma lista de <<Nome do Jogador e Jogada valida>>)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Resultado de cada rodada, na ordem enviada"),
+            @ApiResponse(code = 400, message = "Jogada invalida, rodada com menos que dois jogadores ou lote fora do limite de 10000 rodadas"),
+            @ApiResponse(code = 404, message = "O jogador ou a jogada não está cadastrado"),
+            @ApiResponse(code = 409, message = "O jogador já fez sua jogada na rodada")
+    })
+    ResponseEntity<List<String>> insertRounds(@RequestBody List<List<String>> rounds) throws BadRequestException,
+            DataNotFoundException, DataConflictException;
+
+    @ApiOperation(value = "Registro de uma nova entrada de jogo em uma sala (Utilizar <<Nome do Jogador e Jogada valida>> ou <<Jogar>> para realizar o jogo da sala")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Movimento executado ou resultado do jogo da sala"),
+            @ApiResponse(code = 400, message = "Jogada invalida ou o jogo da sala possui menos que dois jogadores"),
+            @ApiResponse(code = 404, message = "O jogador ou a jogada não está cadastrado"),
+            @ApiResponse(code = 409, message = "O jogador já fez sua jogada nesta sala")
+    })
+    ResponseEntity<String> insertRoomMoveEntry(@PathVariable String room, @RequestBody String moveEntry)
+            throws BadRequestException, DataNotFoundException, DataConflictException;
+
+    @ApiOperation(value = "Registro de uma nova entrada de jogo em JSON em uma sala (Utilizar <<player>> e <<move>> ou <<action>> = Jogar para realizar o jogo da sala; corpos que não são um objeto JSON seguem o formato texto)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Movimento executado ou resultado do jogo da sala"),
+            @ApiResponse(code = 400, message = "Jogada invalida ou o jogo da sala possui menos que dois jogadores"),
+            @ApiResponse(code = 404, message = "O jogador ou a jogada não está cadastrado"),
+            @ApiResponse(code = 409, message = "O jogador já fez sua jogada nesta sala")
+    })
+    ResponseEntity<String> insertRoomPlayRequest(@PathVariable String room, @RequestBody String request)
+            throws BadRequestException, DataNotFoundException, DataConflictException;
+
+    @ApiOperation(value = "Retorna uma lista de jogos cadastrados (Utilizar <<after>> e <<limit>> para paginar pelo id do jogo)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Lista de jogos cadastrados"),
+            @ApiResponse(code = 400, message = "O limite deve estar entre 1 e 1000")
+    })
+    ResponseEntity<Map<Integer, List<MoveEntry>>> findGames(@RequestParam(required = false) Integer after,
+                                                            @RequestParam(required = false) Integer limit)
+            throws BadRequestException;
+
+    @ApiOperation(value = "Retorna os jogos cadastrados em NDJSON, um jogo por linha, a partir do id informado em <<after>>")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Fluxo de jogos cadastrados")
+    })
+    ResponseEntity<StreamingResponseBody> streamGames(@RequestParam(required = false) Integer after);
+
+    @ApiOperation(value = "Retorna as jogadas e os resultados dos últimos <<minutes>> minutos e dos últimos <<games>> jogos")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Lista de jogos cadastrados")
+            @ApiResponse(code = 200, message = "Contagens das janelas de tempo e de jogos"),
+            @ApiResponse(code = 400, message = "Janela fora do limite configurado")
     })
-    ResponseEntity<Map<Integer, List<MoveEntry>>> findGames();
+    ResponseEntity<List<WindowStats>> findAnalytics(@RequestParam(required = false) Integer minutes,
+                                                    @RequestParam(required = false) Integer games)
+            throws BadRequestException;
 
     @ApiOperation(value = "Retorna um jogo registrada pelo id")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Jogo encontrado com sucesso"),
+            @ApiResponse(code = 304, message = "O jogo não mudou desde o ETag informado em If-None-Match"),
             @ApiResponse(code = 404, message = "Este jogo não está cadastrado")
     })
-    ResponseEntity<List<MoveEntry>> findGame(@PathVariable Integer id) throws DataNotFoundException;
+    ResponseEntity<byte[]> findGame(@PathVariable Integer id,
+                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws DataNotFoundException;
 
     @ApiOperation(value = "Exclui um jogo pelo seu id")
     @ApiResponses(value = {
@@ -0,0 +1,30 @@
+package br.com.desafio.jokenpo.controller;
+
+import br.com.desafio.jokenpo.entity.Tournament;
+import br.com.desafio.jokenpo.entity.TournamentJob;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.service.TournamentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/jokenpo")
+public class TournamentController implements TournamentControllerDocs {
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @PostMapping("/tournament")
+    public ResponseEntity<TournamentJob> startTournament(@RequestBody Tournament tournament) throws BadRequestException {
+        return new ResponseEntity<>(tournamentService.startTournament(tournament), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/tournament/{id}")
+    public ResponseEntity<TournamentJob> findTournament(@PathVariable Integer id) throws DataNotFoundException {
+        return new ResponseEntity<>(tournamentService.findTournament(id), HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.desafio.jokenpo.controller;
+
+import br.com.desafio.jokenpo.entity.Tournament;
+import br.com.desafio.jokenpo.entity.TournamentJob;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Api("Simulação de torneios JOKENPO")
+public interface TournamentControllerDocs {
+
+    @ApiOperation(value = "Inicia a simulação de um torneio (jogadas aleatórias ou pelo roteiro de cada jogador)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Torneio iniciado; acompanhe o progresso pelo id"),
+            @ApiResponse(code = 400, message = "Quantidade de jogadores, de rodadas ou roteiro invalido, ou torneios demais em andamento")
+    })
+    ResponseEntity<TournamentJob> startTournament(@RequestBody Tournament tournament) throws BadRequestException;
+
+    @ApiOperation(value = "Retorna o progresso e, ao final, a classificação de um torneio")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Torneio encontrado com sucesso"),
+            @ApiResponse(code = 404, message = "Este torneio não está cadastrado")
+    })
+    ResponseEntity<TournamentJob> findTournament(@PathVariable Integer id) throws DataNotFoundException;
+
+}
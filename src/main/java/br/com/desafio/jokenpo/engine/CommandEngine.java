@@ -0,0 +1,69 @@
+package br.com.desafio.jokenpo.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Applies the service mutations. {@link #DIRECT} runs them on the calling thread;
+ * {@link RingBufferCommandEngine} hands them to a single writer thread.
+ *
+ * <p>The {@code execute} overloads wait for the result and rethrow the command's checked
+ * exceptions with their declared types, so callers keep their own {@code throws} clauses.
+ */
+public interface CommandEngine {
+
+    CommandEngine DIRECT = new CommandEngine() {
+        @Override
+        public <T> CompletableFuture<T> submit(Command<T> command) {
+            try {
+                return CompletableFuture.completedFuture(command.apply());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    };
+
+    @FunctionalInterface
+    interface Command<T> {
+
+        T apply() throws Exception;
+
+    }
+
+    <T> CompletableFuture<T> submit(Command<T> command);
+
+    default <T, A extends Exception> T execute(Command<T> command, Class<A> a) throws A {
+        return execute(command, a, a, a);
+    }
+
+    default <T, A extends Exception, B extends Exception> T execute(Command<T> command, Class<A> a, Class<B> b)
+            throws A, B {
+        return execute(command, a, b, b);
+    }
+
+    default <T, A extends Exception, B extends Exception, C extends Exception> T execute(Command<T> command,
+            Class<A> a, Class<B> b, Class<C> c) throws A, B, C {
+        try {
+            return submit(command).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (a.isInstance(cause)) {
+                throw a.cast(cause);
+            }
+            if (b.isInstance(cause)) {
+                throw b.cast(cause);
+            }
+            if (c.isInstance(cause)) {
+                throw c.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package br.com.desafio.jokenpo.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-writer engine: producers claim a sequence in a pre-allocated ring, fill the slot and
+ * publish it; one writer thread applies every published command in order, draining whatever is
+ * available as a batch before releasing the slots back to the producers.
+ *
+ * <p>Producers only contend on the claim counter. When the ring is full they spin briefly, then
+ * yield and park with a growing timeout until the writer releases a batch; the writer parks when
+ * idle and is unparked by the next publish. Once stopped, no sequence can be claimed any more and
+ * new commands fail with {@link RejectedExecutionException}.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.engine.enabled", havingValue = "true")
+public class RingBufferCommandEngine implements CommandEngine {
+
+    private static final int SPINS_BEFORE_PARK = 1000;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int PRODUCER_SPINS = 100;
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // Set on the claim counter by stop(); sequences never get near it.
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    @Value("${jokenpo.engine.ring-size:1024}")
+    private int ringSize = 1024;
+
+    private Slot[] ring;
+    private AtomicLongArray published;
+    private int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private volatile boolean started;
+    private volatile boolean running;
+    private volatile boolean sleeping;
+    private Thread writer;
+
+    @PostConstruct
+    public synchronized void start() {
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalStateException("jokenpo.engine.ring-size deve ser uma potência de 2");
+        }
+        ring = new Slot[ringSize];
+        published = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            ring[i] = new Slot();
+            published.set(i, -1);
+        }
+        mask = ringSize - 1;
+        running = true;
+        writer = new Thread(this::writeLoop, "jokenpo-engine");
+        writer.start();
+        started = true;
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        claimed.getAndAdd(CLOSED);
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Command<T> command) {
+        // Commands issued by a command, or before the engine starts, run in place.
+        if (!started || Thread.currentThread() == writer) {
+            return DIRECT.submit(command);
+        }
+        long sequence = claim();
+        if (sequence == CLOSED) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("O motor de comandos foi encerrado"));
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        for (int attempt = 0; sequence - released.get() >= ringSize; attempt++) {
+            backOff(attempt);
+        }
+        Slot slot = ring[(int) sequence & mask];
+        slot.command = command;
+        slot.result = result;
+        published.set((int) sequence & mask, sequence);
+        if (sleeping) {
+            LockSupport.unpark(writer);
+        }
+        return result;
+    }
+
+    private long claim() {
+        long current;
+        do {
+            current = claimed.get();
+            if (current < 0) {
+                return CLOSED;
+            }
+        } while (!claimed.compareAndSet(current, current + 1));
+        return current;
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt < PRODUCER_SPINS) {
+            Thread.onSpinWait();
+        } else if (attempt < 2 * PRODUCER_SPINS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_BACKOFF_NANOS, 1000L << Math.min(attempt - 2 * PRODUCER_SPINS, 7)));
+        }
+    }
+
+    private void writeLoop() {
+        long next = 0;
+        int idle = 0;
+        // Sequences claimed before stop() are still published and applied.
+        while (running || next < (claimed.get() & ~CLOSED)) {
+            long available = next;
+            while (available - next < ringSize && published.get((int) available & mask) == available) {
+                available++;
+            }
+            if (available == next) {
+                idle = waitFor(next, idle);
+                continue;
+            }
+            idle = 0;
+            for (long sequence = next; sequence < available; sequence++) {
+                ring[(int) sequence & mask].apply();
+            }
+            next = available;
+            released.set(next);
+        }
+    }
+
+    private int waitFor(long sequence, int idle) {
+        if (idle < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+            return idle + 1;
+        }
+        sleeping = true;
+        if (running && published.get((int) sequence & mask) != sequence) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        sleeping = false;
+        return idle;
+    }
+
+    private static final class Slot {
+
+        private Command<?> command;
+        private CompletableFuture<?> result;
+
+        @SuppressWarnings("unchecked")
+        void apply() {
+            CompletableFuture<Object> future = (CompletableFuture<Object>) result;
+            try {
+                future.complete(command.apply());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                command = null;
+                result = null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.List;
+import java.util.Objects;
+
+public class Game {
+
+    private Integer id;
+    private List<MoveEntry> entries;
+
+    public Game() {
+    }
+
+    public Game(Integer id, List<MoveEntry> entries) {
+        this.id = id;
+        this.entries = entries;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public List<MoveEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<MoveEntry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Game game = (Game) o;
+        return Objects.equals(id, game.id) && Objects.equals(entries, game.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, entries);
+    }
+}
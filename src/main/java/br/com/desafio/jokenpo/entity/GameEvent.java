@@ -0,0 +1,60 @@
+package br.com.desafio.jokenpo.entity;
+
+public class GameEvent {
+
+    public enum Type {
+        ENTRY, RESULT
+    }
+
+    private Type type;
+    private String room;
+    private String player;
+    private String move;
+    private Integer gameId;
+    private String result;
+
+    public GameEvent() {
+    }
+
+    public static GameEvent entry(String room, MoveEntry entry) {
+        GameEvent event = new GameEvent();
+        event.type = Type.ENTRY;
+        event.room = room;
+        event.player = entry.getPlayer();
+        event.move = entry.getMove();
+        return event;
+    }
+
+    public static GameEvent result(String room, Integer gameId, String result) {
+        GameEvent event = new GameEvent();
+        event.type = Type.RESULT;
+        event.room = room;
+        event.gameId = gameId;
+        event.result = result;
+        return event;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public String getMove() {
+        return move;
+    }
+
+    public Integer getGameId() {
+        return gameId;
+    }
+
+    public String getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.desafio.jokenpo.entity;
+
+public class LeaderboardEntry {
+
+    private int rank;
+    private String player;
+    private long wins;
+    private long games;
+    private double winRate;
+
+    public LeaderboardEntry() {
+    }
+
+    public LeaderboardEntry(int rank, String player, long wins, long games) {
+        this.rank = rank;
+        this.player = player;
+        this.wins = wins;
+        this.games = games;
+        this.winRate = games == 0 ? 0 : (double) wins / games;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+}
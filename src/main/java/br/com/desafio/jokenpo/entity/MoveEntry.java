@@ -1,11 +1,21 @@
 package br.com.desafio.jokenpo.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.Objects;
 
 public class MoveEntry {
 
+    public static final int MAX_MOVES = 0xFF;
+    public static final int UNCODED = -2;
+
     private String player;
     private String move;
+    // Ids from the repository's NameTables, set when the entry is accepted; the spellings are kept for rendering.
+    private int playerId = NameTable.MISSING;
+    private byte moveId;
+    // The rule code of the move, cached by the rule set on first use; UNCODED until then.
+    private byte moveCode = UNCODED;
 
     public MoveEntry() {
     }
@@ -15,12 +25,24 @@ public class MoveEntry {
         this.move = move;
     }
 
+    public MoveEntry(MoveEntry entry, int playerId, int moveId) {
+        if (moveId < 0 || moveId >= MAX_MOVES) {
+            throw new IllegalArgumentException("Id de jogada fora do limite: " + moveId);
+        }
+        this.player = entry.player;
+        this.move = entry.move;
+        this.playerId = playerId;
+        this.moveId = (byte) moveId;
+        this.moveCode = entry.moveCode;
+    }
+
     public String getPlayer() {
         return player;
     }
 
     public void setPlayer(String player) {
         this.player = player;
+        this.playerId = NameTable.MISSING;
     }
 
     public String getMove() {
@@ -29,6 +51,33 @@ public class MoveEntry {
 
     public void setMove(String move) {
         this.move = move;
+        this.playerId = NameTable.MISSING;
+        this.moveCode = UNCODED;
+    }
+
+    @JsonIgnore
+    public boolean isResolved() {
+        return playerId != NameTable.MISSING;
+    }
+
+    @JsonIgnore
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    @JsonIgnore
+    public int getMoveId() {
+        return isResolved() ? moveId & MAX_MOVES : NameTable.MISSING;
+    }
+
+    @JsonIgnore
+    public int getMoveCode() {
+        return moveCode;
+    }
+
+    @JsonIgnore
+    public void setMoveCode(int moveCode) {
+        this.moveCode = (byte) moveCode;
     }
 
     @Override
@@ -36,11 +85,16 @@ public class MoveEntry {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         MoveEntry game = (MoveEntry) o;
+        if (isResolved() && game.isResolved()) {
+            return playerId == game.playerId && moveId == game.moveId;
+        }
         return Objects.equals(player, game.player) && Objects.equals(move, game.move);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(player, move);
+        // By key, so entries resolved to the same ids hash alike whatever their spelling.
+        return 31 * (player == null ? 0 : NameTable.playerKey(player).hashCode())
+                + (move == null ? 0 : NameTable.moveKey(move).hashCode());
     }
 }
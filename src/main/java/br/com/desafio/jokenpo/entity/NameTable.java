@@ -0,0 +1,55 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Append-only dictionary that gives each normalized name a dense id. Tables are owned by the
+ * repositories that register the names, so they live and die with them; only names that passed
+ * validation should be interned. Display spellings are not kept here: each entry keeps its own.
+ */
+public final class NameTable {
+
+    public static final int MISSING = -1;
+
+    private static final String MOVE_PREFIX = "Jogada ";
+
+    private final Function<String, String> normalizer;
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public NameTable(Function<String, String> normalizer) {
+        this.normalizer = normalizer;
+    }
+
+    public int intern(String name) {
+        String key = normalizer.apply(name);
+        Integer id = ids.get(key);
+        return id != null ? id : ids.computeIfAbsent(key, k -> next.getAndIncrement());
+    }
+
+    public int find(String name) {
+        Integer id = ids.get(normalizer.apply(name));
+        return id == null ? MISSING : id;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public static String playerKey(String player) {
+        return player.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String moveKey(String move) {
+        String key = move.trim();
+        if (key.regionMatches(true, 0, MOVE_PREFIX, 0, MOVE_PREFIX.length())) {
+            key = key.substring(MOVE_PREFIX.length()).trim();
+        }
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+}
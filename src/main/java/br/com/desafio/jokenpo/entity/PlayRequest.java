@@ -0,0 +1,58 @@
+package br.com.desafio.jokenpo.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class PlayRequest {
+
+    public static final String PLAY = "Jogar";
+
+    private String player;
+    private String move;
+    private String action;
+
+    public PlayRequest() {
+    }
+
+    public PlayRequest(String player, String move, String action) {
+        this.player = player;
+        this.move = move;
+        this.action = action;
+    }
+
+    public static PlayRequest entry(String player, String move) {
+        return new PlayRequest(player, move, null);
+    }
+
+    public static PlayRequest play() {
+        return new PlayRequest(null, null, PLAY);
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+
+    public String getMove() {
+        return move;
+    }
+
+    public void setMove(String move) {
+        this.move = move;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    @JsonIgnore
+    public boolean isPlay() {
+        return PLAY.equalsIgnoreCase(action);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.Map;
+
+public class PlayerStats {
+
+    private String player;
+    private long games;
+    private long wins;
+    private long losses;
+    private long draws;
+    private Map<String, Long> moves;
+
+    public PlayerStats() {
+    }
+
+    public PlayerStats(String player, long wins, long losses, long draws, Map<String, Long> moves) {
+        this.player = player;
+        this.games = wins + losses + draws;
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+        this.moves = moves;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public Map<String, Long> getMoves() {
+        return moves;
+    }
+}
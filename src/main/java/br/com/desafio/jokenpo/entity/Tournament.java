@@ -0,0 +1,62 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.List;
+
+public class Tournament {
+
+    private int players;
+    private long rounds;
+    private int playersPerRound = 2;
+    private long seed;
+    private List<List<String>> scripts;
+
+    public Tournament() {
+    }
+
+    public Tournament(int players, long rounds, int playersPerRound, long seed) {
+        this.players = players;
+        this.rounds = rounds;
+        this.playersPerRound = playersPerRound;
+        this.seed = seed;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(long rounds) {
+        this.rounds = rounds;
+    }
+
+    public int getPlayersPerRound() {
+        return playersPerRound;
+    }
+
+    public void setPlayersPerRound(int playersPerRound) {
+        this.playersPerRound = playersPerRound;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public List<List<String>> getScripts() {
+        return scripts;
+    }
+
+    public void setScripts(List<List<String>> scripts) {
+        this.scripts = scripts;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TournamentJob {
+
+    public enum Status {
+        RUNNING, DONE, FAILED
+    }
+
+    private final Integer id;
+    private final long totalRounds;
+    private final LongAdder completedRounds;
+    private volatile Status status;
+    private volatile List<TournamentStanding> standings;
+    private volatile String error;
+
+    public TournamentJob(Integer id, long totalRounds) {
+        this.id = id;
+        this.totalRounds = totalRounds;
+        completedRounds = new LongAdder();
+        status = Status.RUNNING;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getTotalRounds() {
+        return totalRounds;
+    }
+
+    public long getCompletedRounds() {
+        return completedRounds.sum();
+    }
+
+    public double getProgress() {
+        return totalRounds == 0 ? 100.0 : getCompletedRounds() * 100.0 / totalRounds;
+    }
+
+    public List<TournamentStanding> getStandings() {
+        return standings;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void roundsCompleted(long rounds) {
+        completedRounds.add(rounds);
+    }
+
+    public void complete(List<TournamentStanding> standings) {
+        this.standings = standings;
+        status = Status.DONE;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        status = Status.FAILED;
+    }
+
+}
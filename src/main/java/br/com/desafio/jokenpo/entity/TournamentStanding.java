@@ -0,0 +1,66 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.Objects;
+
+public class TournamentStanding {
+
+    private String player;
+    private long wins;
+    private long draws;
+    private long losses;
+
+    public TournamentStanding() {
+    }
+
+    public TournamentStanding(String player, long wins, long draws, long losses) {
+        this.player = player;
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public void setDraws(long draws) {
+        this.draws = draws;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TournamentStanding that = (TournamentStanding) o;
+        return wins == that.wins && draws == that.draws && losses == that.losses && Objects.equals(player, that.player);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(player, wins, draws, losses);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.desafio.jokenpo.entity;
+
+import java.util.Map;
+
+public class WindowStats {
+
+    private String window;
+    private long rounds;
+    private Map<String, Long> moves;
+    private Map<String, Long> outcomes;
+    private double drawRate;
+
+    public WindowStats() {
+    }
+
+    public WindowStats(String window, long rounds, Map<String, Long> moves, Map<String, Long> outcomes, long draws) {
+        this.window = window;
+        this.rounds = rounds;
+        this.moves = moves;
+        this.outcomes = outcomes;
+        this.drawRate = rounds == 0 ? 0 : (double) draws / rounds;
+    }
+
+    public String getWindow() {
+        return window;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public Map<String, Long> getMoves() {
+        return moves;
+    }
+
+    public Map<String, Long> getOutcomes() {
+        return outcomes;
+    }
+
+    public double getDrawRate() {
+        return drawRate;
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.desafio.jokenpo.event;
+
+import br.com.desafio.jokenpo.entity.GameEvent;
+
+public interface GameEvents {
+
+    GameEvents NOOP = event -> {
+    };
+
+    void publish(GameEvent event);
+
+}
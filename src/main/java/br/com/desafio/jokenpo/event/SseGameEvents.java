@@ -0,0 +1,140 @@
+package br.com.desafio.jokenpo.event;
+
+import br.com.desafio.jokenpo.entity.GameEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes game events to Server-Sent Events subscribers. Publishing only enqueues into each
+ * subscriber's bounded buffer, dropping its oldest event when full; the writes to the
+ * connections happen on a small shared pool, so a slow client never blocks the game.
+ */
+@Component
+public class SseGameEvents implements GameEvents {
+
+    @Value("${jokenpo.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${jokenpo.events.threads:4}")
+    private int threads;
+
+    @Value("${jokenpo.events.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final LongAdder dropped = new LongAdder();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "jokenpo-events-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+    }
+
+    public SseEmitter subscribe(String room) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(room, emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.room == null || subscriber.room.equals(event.getRoom())) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    public int countSubscribers() {
+        return subscribers.size();
+    }
+
+    public long countDropped() {
+        return dropped.sum();
+    }
+
+    private final class Subscriber {
+
+        private final String room;
+        private final SseEmitter emitter;
+        private final BlockingQueue<GameEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(String room, SseEmitter emitter, int capacity) {
+            this.room = room;
+            this.emitter = emitter;
+            buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(GameEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                GameEvent event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event().name(event.getType().name()).data(event));
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived after the last poll but before the flag was cleared.
+            if (!buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable record of one change made by the game service. Events with the same
+ * {@link #partitionKey()} always land in the same partition of the log, in the order they
+ * happened: a game's deletion comes after its round, a player's deletion after its registration.
+ * The log stamps each event with its {@link #getSequence() sequence} when appending it.
+ */
+public final class DomainEvent {
+
+    public enum Type {
+        PLAYER_REGISTERED, PLAYER_DELETED, MOVE_REGISTERED, MOVE_DELETED, ENTRY_PLAYED, ROUND_RESOLVED, GAME_DELETED
+    }
+
+    private final Type type;
+    private final long sequence;
+    private final long timestamp;
+    private final String room;
+    private final String name;
+    private final Integer gameId;
+    private final List<MoveEntry> entries;
+    private final int winner;
+
+    private DomainEvent(Type type, String room, String name, Integer gameId, List<MoveEntry> entries, int winner) {
+        this.type = type;
+        this.sequence = -1;
+        this.timestamp = System.currentTimeMillis();
+        this.room = room;
+        this.name = name;
+        this.gameId = gameId;
+        this.entries = entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+        this.winner = winner;
+    }
+
+    private DomainEvent(DomainEvent event, long sequence) {
+        this.type = event.type;
+        this.sequence = sequence;
+        this.timestamp = event.timestamp;
+        this.room = event.room;
+        this.name = event.name;
+        this.gameId = event.gameId;
+        this.entries = event.entries;
+        this.winner = event.winner;
+    }
+
+    public static DomainEvent playerRegistered(String player) {
+        return new DomainEvent(Type.PLAYER_REGISTERED, null, player, null, null, 0);
+    }
+
+    public static DomainEvent playerDeleted(String player) {
+        return new DomainEvent(Type.PLAYER_DELETED, null, player, null, null, 0);
+    }
+
+    public static DomainEvent moveRegistered(String move) {
+        return new DomainEvent(Type.MOVE_REGISTERED, null, move, null, null, 0);
+    }
+
+    public static DomainEvent moveDeleted(String move) {
+        return new DomainEvent(Type.MOVE_DELETED, null, move, null, null, 0);
+    }
+
+    public static DomainEvent entryPlayed(String room, MoveEntry entry) {
+        return new DomainEvent(Type.ENTRY_PLAYED, room, entry.getPlayer(), null, Collections.singletonList(entry), 0);
+    }
+
+    public static DomainEvent roundResolved(Integer gameId, List<MoveEntry> entries, int winner) {
+        return new DomainEvent(Type.ROUND_RESOLVED, null, null, gameId, entries, winner);
+    }
+
+    public static DomainEvent gameDeleted(Integer gameId, List<MoveEntry> entries) {
+        return new DomainEvent(Type.GAME_DELETED, null, null, gameId, entries, 0);
+    }
+
+    DomainEvent sequenced(long sequence) {
+        return new DomainEvent(this, sequence);
+    }
+
+    public int partitionKey() {
+        switch (type) {
+            case PLAYER_REGISTERED:
+            case PLAYER_DELETED:
+                return NameTable.playerKey(name).hashCode();
+            case MOVE_REGISTERED:
+            case MOVE_DELETED:
+                return NameTable.moveKey(name).hashCode();
+            case ENTRY_PLAYED:
+                return String.valueOf(room).hashCode();
+            default:
+                return gameId;
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getGameId() {
+        return gameId;
+    }
+
+    public List<MoveEntry> getEntries() {
+        return entries;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+}
@@ -0,0 +1,10 @@
+package br.com.desafio.jokenpo.eventlog;
+
+public interface EventLog {
+
+    EventLog NOOP = event -> {
+    };
+
+    void append(DomainEvent event);
+
+}
@@ -0,0 +1,38 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The stored games by id, as resolved and deleted through the service.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.eventlog.enabled", havingValue = "true")
+public class GameHistoryProjection extends Projection<ConcurrentNavigableMap<Integer, List<MoveEntry>>> {
+
+    @Override
+    protected ConcurrentNavigableMap<Integer, List<MoveEntry>> newState() {
+        return new ConcurrentSkipListMap<>();
+    }
+
+    @Override
+    protected void apply(ConcurrentNavigableMap<Integer, List<MoveEntry>> games, DomainEvent event) {
+        if (event.getType() == DomainEvent.Type.ROUND_RESOLVED) {
+            games.put(event.getGameId(), event.getEntries());
+        } else if (event.getType() == DomainEvent.Type.GAME_DELETED) {
+            games.remove(event.getGameId());
+        }
+    }
+
+    public NavigableMap<Integer, List<MoveEntry>> games() {
+        return Collections.unmodifiableNavigableMap(state());
+    }
+
+}
@@ -0,0 +1,59 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How many times each move was played in the stored games.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.eventlog.enabled", havingValue = "true")
+public class MoveFrequencyProjection extends Projection<LongAdder[]> {
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Override
+    protected LongAdder[] newState() {
+        LongAdder[] moves = new LongAdder[rules.moveCount()];
+        for (int code = 0; code < moves.length; code++) {
+            moves[code] = new LongAdder();
+        }
+        return moves;
+    }
+
+    @Override
+    protected void apply(LongAdder[] moves, DomainEvent event) {
+        int delta;
+        if (event.getType() == DomainEvent.Type.ROUND_RESOLVED) {
+            delta = 1;
+        } else if (event.getType() == DomainEvent.Type.GAME_DELETED) {
+            delta = -1;
+        } else {
+            return;
+        }
+        for (MoveEntry entry : event.getEntries()) {
+            int code = rules.moveCode(entry);
+            if (code != RuleSet.NO_MOVE) {
+                moves[code].add(delta);
+            }
+        }
+    }
+
+    public Map<String, Long> frequencies() {
+        LongAdder[] moves = state();
+        Map<String, Long> frequencies = new LinkedHashMap<>();
+        for (int code = 0; code < moves.length; code++) {
+            frequencies.put(rules.moveName(code), moves[code].sum());
+        }
+        return frequencies;
+    }
+
+}
@@ -0,0 +1,122 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import br.com.desafio.jokenpo.service.OutcomeResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process, append-only log of the service's events, split into partitions by
+ * {@link DomainEvent#partitionKey()}. Each append is applied to the projections under its
+ * partition's lock, so the live projections see every partition in log order; a rebuild blocks
+ * the appends and replays the partitions.
+ *
+ * <p>The game events come from the repository's {@link GameHistoryListener} callbacks, which
+ * report each stored and deleted game once and in that order.
+ *
+ * <p>A debugging aid kept in memory: each partition retains its last
+ * {@code jokenpo.eventlog.partition-capacity} events. The live projections keep folding every
+ * event, but once one was discarded the log can no longer rebuild them.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.eventlog.enabled", havingValue = "true")
+public class PartitionedEventLog implements EventLog, GameHistoryListener {
+
+    @Value("${jokenpo.eventlog.partitions:16}")
+    private int partitionCount = 16;
+
+    @Value("${jokenpo.eventlog.partition-capacity:65536}")
+    private int partitionCapacity = 65536;
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Autowired(required = false)
+    private List<Projection<?>> projections = Collections.emptyList();
+
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder discarded = new LongAdder();
+    private List<Deque<DomainEvent>> partitions;
+
+    @PostConstruct
+    public void start() {
+        partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayDeque<>());
+        }
+    }
+
+    @Override
+    public void append(DomainEvent event) {
+        Deque<DomainEvent> partition = partitions.get(Math.floorMod(event.partitionKey(), partitionCount));
+        rebuildLock.readLock().lock();
+        try {
+            synchronized (partition) {
+                DomainEvent sequenced = event.sequenced(sequence.getAndIncrement());
+                if (partition.size() >= partitionCapacity) {
+                    partition.pollFirst();
+                    discarded.increment();
+                }
+                partition.addLast(sequenced);
+                for (Projection<?> projection : projections) {
+                    projection.apply(sequenced);
+                }
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void gameAdded(Integer id, List<MoveEntry> entries) {
+        append(DomainEvent.roundResolved(id, entries, OutcomeResolver.winner(rules, entries)));
+    }
+
+    @Override
+    public void gameDeleted(Integer id, List<MoveEntry> entries) {
+        append(DomainEvent.gameDeleted(id, entries));
+    }
+
+    public void rebuild(Projection<?> projection) {
+        rebuildLock.writeLock().lock();
+        try {
+            if (discarded.sum() > 0) {
+                throw new IllegalStateException("O log de eventos descartou eventos antigos e não reconstrói as projeções");
+            }
+            projection.rebuild(partitions);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    public void rebuildAll() {
+        for (Projection<?> projection : projections) {
+            rebuild(projection);
+        }
+    }
+
+    public long size() {
+        return sequence.get();
+    }
+
+    public long discarded() {
+        return discarded.sum();
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import br.com.desafio.jokenpo.stats.PlayerStatsIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registered players and their results, folded with the same counters the live
+ * {@link PlayerStatsIndex} keeps. Player events are keyed by the player and game events by the
+ * game, so it is rebuilt in sequence order.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.eventlog.enabled", havingValue = "true")
+public class PlayerStatsProjection extends Projection<PlayerStatsProjection.State> {
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Override
+    protected State newState() {
+        return new State(rules);
+    }
+
+    @Override
+    protected boolean inSequence() {
+        return true;
+    }
+
+    @Override
+    protected void apply(State state, DomainEvent event) {
+        switch (event.getType()) {
+            case PLAYER_REGISTERED:
+                state.players.put(NameTable.playerKey(event.getName()), event.getName());
+                break;
+            case PLAYER_DELETED:
+                state.players.remove(NameTable.playerKey(event.getName()));
+                break;
+            case ROUND_RESOLVED:
+                state.stats.gameAdded(event.getGameId(), event.getEntries());
+                break;
+            case GAME_DELETED:
+                state.stats.gameDeleted(event.getGameId(), event.getEntries());
+                break;
+            default:
+                break;
+        }
+    }
+
+    public Optional<PlayerStats> findStats(String player) {
+        State state = state();
+        Optional<PlayerStats> stats = state.stats.findStats(player);
+        if (stats.isPresent()) {
+            return stats;
+        }
+        return Optional.ofNullable(state.players.get(NameTable.playerKey(player))).map(name -> PlayerStatsIndex.emptyStats(rules, name));
+    }
+
+    static final class State {
+
+        final ConcurrentMap<String, String> players = new ConcurrentHashMap<>();
+        final PlayerStatsIndex stats;
+
+        State(RuleSet rules) {
+            stats = new PlayerStatsIndex(rules);
+        }
+
+    }
+
+}
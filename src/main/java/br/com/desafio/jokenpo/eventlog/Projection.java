@@ -0,0 +1,60 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A view folded from the event log. {@link #apply(Object, DomainEvent)} is called concurrently
+ * for events of different partitions and in log order within a partition, so the state must be
+ * thread-safe. A projection that only relies on the order of events sharing a partition key is
+ * rebuilt one partition per thread; one that combines events of different keys overrides
+ * {@link #inSequence()} to be rebuilt from the whole log in sequence order. The first state is
+ * created once the projection is configured, since its size may depend on injected beans.
+ */
+public abstract class Projection<S> {
+
+    private volatile S state;
+
+    @PostConstruct
+    public void start() {
+        state = newState();
+    }
+
+    protected abstract S newState();
+
+    protected abstract void apply(S state, DomainEvent event);
+
+    protected boolean inSequence() {
+        return false;
+    }
+
+    protected S state() {
+        return state;
+    }
+
+    void apply(DomainEvent event) {
+        apply(state, event);
+    }
+
+    /**
+     * Replays the partitions into a new state and swaps it in once complete.
+     */
+    void rebuild(List<? extends Collection<DomainEvent>> partitions) {
+        S rebuilt = newState();
+        if (inSequence()) {
+            partitions.stream().flatMap(Collection::stream)
+                    .sorted(Comparator.comparingLong(DomainEvent::getSequence))
+                    .forEachOrdered(event -> apply(rebuilt, event));
+        } else {
+            partitions.parallelStream().forEach(events -> {
+                for (DomainEvent event : events) {
+                    apply(rebuilt, event);
+                }
+            });
+        }
+        state = rebuilt;
+    }
+
+}
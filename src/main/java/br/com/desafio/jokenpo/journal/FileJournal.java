@@ -0,0 +1,275 @@
+package br.com.desafio.jokenpo.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Appends never block: they are called while the repositories hold their locks, so a full queue
+ * rejects the mutation instead of stalling every other writer behind it. Once a write fails the
+ * journal stops accepting records and reports itself down, rather than acknowledging changes that
+ * would be lost on the next restart.
+ *
+ * <p>An append returns once the record is queued, before it is written and forced to disk by the
+ * next group commit: a crash loses the changes acknowledged in that window, up to a batch of
+ * {@code batch-size} records plus whatever is still queued.
+ */
+@Component
+@ConditionalOnProperty(name = "jokenpo.journal.enabled", havingValue = "true")
+public class FileJournal implements Journal, HealthIndicator {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final int BUFFER_SIZE = 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileJournal.class);
+    private static final long POLL_MILLIS = 100;
+
+    @Value("${jokenpo.journal.dir:data/journal}")
+    private String dir;
+
+    @Value("${jokenpo.journal.fsync:true}")
+    private boolean fsync;
+
+    @Value("${jokenpo.journal.batch-size:1024}")
+    private int batchSize;
+
+    @Value("${jokenpo.journal.queue-capacity:65536}")
+    private int queueCapacity;
+
+    @Value("${jokenpo.journal.snapshot-every:1000000}")
+    private long snapshotEvery;
+
+    private volatile boolean started;
+    private volatile boolean running;
+    private volatile IOException failure;
+    // Shared by appends and changes in progress, exclusive for stop() and for a snapshot waiting on them.
+    private final ReadWriteLock changes = new ReentrantReadWriteLock();
+    private final ThreadLocal<int[]> reserved = ThreadLocal.withInitial(() -> new int[1]);
+    private Semaphore slots;
+    private BlockingQueue<JournalRecord> queue;
+    private JournalWriter writer;
+    private long segment;
+    private long appendedSinceRotation;
+    private LongConsumer rotationListener;
+    private Thread thread;
+
+    @Override
+    public void append(JournalRecord record) {
+        // Records produced while recovering are replays of what is already on disk.
+        if (!started) {
+            return;
+        }
+        changes.readLock().lock();
+        try {
+            checkAvailable();
+            int[] held = reserved.get();
+            if (held[0] > 0) {
+                held[0]--;
+            } else if (!slots.tryAcquire()) {
+                throw new IllegalStateException("Journal sobrecarregado, tente novamente");
+            }
+            queue.add(record);
+        } finally {
+            changes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void beginChange() {
+        changes.readLock().lock();
+    }
+
+    @Override
+    public void endChange() {
+        changes.readLock().unlock();
+    }
+
+    @Override
+    public void reserve(int records) {
+        if (!started) {
+            return;
+        }
+        checkAvailable();
+        if (!slots.tryAcquire(records)) {
+            throw new IllegalStateException("Journal sobrecarregado, tente novamente");
+        }
+        reserved.get()[0] += records;
+    }
+
+    @Override
+    public void release() {
+        int[] held = reserved.get();
+        if (held[0] > 0) {
+            slots.release(held[0]);
+            held[0] = 0;
+        }
+    }
+
+    /**
+     * Returns once every change that began before the call is applied.
+     */
+    void awaitChanges() {
+        changes.writeLock().lock();
+        changes.writeLock().unlock();
+    }
+
+    private void checkAvailable() {
+        if (failure != null) {
+            throw new IllegalStateException("Journal indisponível após falha de gravação", failure);
+        }
+        if (!running) {
+            throw new IllegalStateException("Journal encerrado");
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (failure != null) {
+            return Health.down(failure).build();
+        }
+        if (!running) {
+            return Health.down().withDetail("running", false).build();
+        }
+        return Health.up().withDetail("pending", queue.size()).build();
+    }
+
+    Path directory() {
+        return Paths.get(dir);
+    }
+
+    List<Long> segments() throws IOException {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(f -> f.getFileName().toString())
+                    .filter(f -> f.startsWith(SEGMENT_PREFIX) && f.endsWith(SEGMENT_SUFFIX))
+                    .map(f -> Long.parseLong(f.substring(SEGMENT_PREFIX.length(), f.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    Path segmentPath(long segment) {
+        return directory().resolve(String.format("%s%019d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    synchronized void start(long firstSegment, LongConsumer onRotation) throws IOException {
+        Files.createDirectories(directory());
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        slots = new Semaphore(queueCapacity);
+        rotationListener = onRotation;
+        segment = firstSegment;
+        writer = openSegment(segment);
+        running = true;
+        started = true;
+        thread = new Thread(this::writeLoop, "jokenpo-journal");
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws IOException, InterruptedException {
+        // Exclusive, so no append is between its check and its enqueue once the writer is told to drain.
+        changes.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            changes.writeLock().unlock();
+        }
+        thread.join();
+        if (failure == null) {
+            writer.close();
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void writeLoop() {
+        List<JournalRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                JournalRecord first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                slots.release(batch.size());
+                for (JournalRecord record : batch) {
+                    writer.write(record);
+                }
+                // Group commit: a single fsync covers every record drained in this batch.
+                if (fsync) {
+                    writer.force();
+                } else {
+                    writer.flush();
+                }
+                appendedSinceRotation += batch.size();
+                batch.clear();
+                if (snapshotEvery > 0 && appendedSinceRotation >= snapshotEvery) {
+                    rotate();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new InterruptedIOException("Escritor do journal interrompido");
+                LOGGER.error("Escritor do journal interrompido, novas gravações serão recusadas");
+                return;
+            } catch (IOException e) {
+                // The records of this batch may be partially on disk; accepting more would only widen the gap.
+                failure = e;
+                LOGGER.error("Falha ao gravar o journal em {}, novas gravações serão recusadas", directory(), e);
+                return;
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        segment++;
+        writer = openSegment(segment);
+        appendedSinceRotation = 0;
+        rotationListener.accept(segment);
+    }
+
+    private JournalWriter openSegment(long segment) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        JournalWriter segmentWriter = new JournalWriter(channel, BUFFER_SIZE);
+        segmentWriter.writeHeader(JournalCodec.SEGMENT_MAGIC, segment);
+        return segmentWriter;
+    }
+
+}
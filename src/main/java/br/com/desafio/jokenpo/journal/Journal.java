@@ -0,0 +1,30 @@
+package br.com.desafio.jokenpo.journal;
+
+public interface Journal {
+
+    Journal NOOP = record -> {
+    };
+
+    void append(JournalRecord record);
+
+    /**
+     * Brackets a change from before its first append until it is visible in memory, so a snapshot
+     * can wait for every journaled change to be applied. Called before taking any repository lock.
+     */
+    default void beginChange() {
+    }
+
+    default void endChange() {
+    }
+
+    /**
+     * Holds room for the next appends of the calling thread, so a change written as several
+     * records is not rejected halfway; {@link #release()} gives back the room left unused.
+     */
+    default void reserve(int records) {
+    }
+
+    default void release() {
+    }
+
+}
@@ -0,0 +1,104 @@
+package br.com.desafio.jokenpo.journal;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+final class JournalCodec {
+
+    static final int SEGMENT_MAGIC = 0x4A4B504A;
+    static final int SNAPSHOT_MAGIC = 0x4A4B5053;
+    static final byte VERSION = 1;
+    static final int FRAME_HEADER_SIZE = 8;
+    static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    private JournalCodec() {
+    }
+
+    static void encode(JournalRecord record, ByteBuffer buffer) {
+        buffer.put(record.getType().getCode());
+        switch (record.getType()) {
+            case ENTRY_ADDED:
+                putString(buffer, record.getKey());
+                putEntry(buffer, record.getEntry());
+                break;
+            case GAME_ADDED:
+                buffer.putInt(record.getGameId());
+                buffer.putInt(record.getEntries().size());
+                for (MoveEntry entry : record.getEntries()) {
+                    putEntry(buffer, entry);
+                }
+                break;
+            case GAME_DELETED:
+            case GAME_SEQUENCE:
+                buffer.putInt(record.getGameId());
+                break;
+            default:
+                putString(buffer, record.getKey());
+        }
+    }
+
+    static JournalRecord decode(ByteBuffer buffer) {
+        JournalRecord.Type type = JournalRecord.Type.of(buffer.get());
+        switch (type) {
+            case PLAYER_ADDED:
+                return JournalRecord.playerAdded(getString(buffer));
+            case PLAYER_DELETED:
+                return JournalRecord.playerDeleted(getString(buffer));
+            case MOVE_ADDED:
+                return JournalRecord.moveAdded(getString(buffer));
+            case MOVE_DELETED:
+                return JournalRecord.moveDeleted(getString(buffer));
+            case ENTRY_ADDED:
+                return JournalRecord.entryAdded(getString(buffer), getEntry(buffer));
+            case ROUND_CLOSED:
+                return JournalRecord.roundClosed(getString(buffer));
+            case GAME_ADDED:
+                int gameId = buffer.getInt();
+                int size = buffer.getInt();
+                List<MoveEntry> entries = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    entries.add(getEntry(buffer));
+                }
+                return JournalRecord.gameAdded(gameId, entries);
+            case GAME_DELETED:
+                return JournalRecord.gameDeleted(buffer.getInt());
+            default:
+                return JournalRecord.gameSequence(buffer.getInt());
+        }
+    }
+
+    private static void putEntry(ByteBuffer buffer, MoveEntry entry) {
+        putString(buffer, entry.getPlayer());
+        putString(buffer, entry.getMove());
+    }
+
+    private static MoveEntry getEntry(ByteBuffer buffer) {
+        String player = getString(buffer);
+        return new MoveEntry(player, getString(buffer));
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.com.desafio.jokenpo.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+final class JournalReader implements Closeable {
+
+    private final FileChannel channel;
+    private final CRC32 crc;
+    private ByteBuffer buffer;
+
+    JournalReader(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.crc = new CRC32();
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.limit(0);
+    }
+
+    boolean readHeader(int magic) throws IOException {
+        return ensure(5) && buffer.getInt() == magic && buffer.get() == JournalCodec.VERSION;
+    }
+
+    long readLong() throws IOException {
+        if (!ensure(Long.BYTES)) {
+            throw new IOException("Truncated journal header");
+        }
+        return buffer.getLong();
+    }
+
+    /**
+     * Returns the next intact record, or null at the end of the file or at the first torn frame.
+     */
+    JournalRecord next() throws IOException {
+        if (!ensure(JournalCodec.FRAME_HEADER_SIZE)) {
+            return null;
+        }
+        int length = buffer.getInt(buffer.position());
+        int checksum = buffer.getInt(buffer.position() + 4);
+        if (length < 1 || length > JournalCodec.MAX_FRAME_SIZE
+                || !ensure(JournalCodec.FRAME_HEADER_SIZE + length)) {
+            return null;
+        }
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(buffer.position() + JournalCodec.FRAME_HEADER_SIZE)
+                .limit(buffer.position() + JournalCodec.FRAME_HEADER_SIZE + length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        JournalRecord record = JournalCodec.decode(payload);
+        buffer.position(payload.limit());
+        return record;
+    }
+
+    private boolean ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (bytes > buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(bytes, buffer.capacity() * 2));
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
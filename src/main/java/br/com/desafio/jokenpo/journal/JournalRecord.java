@@ -0,0 +1,111 @@
+package br.com.desafio.jokenpo.journal;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class JournalRecord {
+
+    // Codes are written to disk: never renumber an existing type.
+    public enum Type {
+        PLAYER_ADDED(1),
+        PLAYER_DELETED(2),
+        MOVE_ADDED(3),
+        MOVE_DELETED(4),
+        ENTRY_ADDED(5),
+        ROUND_CLOSED(6),
+        GAME_ADDED(7),
+        GAME_DELETED(8),
+        GAME_SEQUENCE(9);
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public static Type of(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown journal record type " + code);
+        }
+    }
+
+    private final Type type;
+    private final String key;
+    private final MoveEntry entry;
+    private final int gameId;
+    private final List<MoveEntry> entries;
+
+    private JournalRecord(Type type, String key, MoveEntry entry, int gameId, List<MoveEntry> entries) {
+        this.type = type;
+        this.key = key;
+        this.entry = entry;
+        this.gameId = gameId;
+        this.entries = entries;
+    }
+
+    public static JournalRecord playerAdded(String player) {
+        return new JournalRecord(Type.PLAYER_ADDED, player, null, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord playerDeleted(String player) {
+        return new JournalRecord(Type.PLAYER_DELETED, player, null, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord moveAdded(String move) {
+        return new JournalRecord(Type.MOVE_ADDED, move, null, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord moveDeleted(String move) {
+        return new JournalRecord(Type.MOVE_DELETED, move, null, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord entryAdded(String room, MoveEntry entry) {
+        return new JournalRecord(Type.ENTRY_ADDED, room, entry, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord roundClosed(String room) {
+        return new JournalRecord(Type.ROUND_CLOSED, room, null, 0, Collections.emptyList());
+    }
+
+    public static JournalRecord gameAdded(int gameId, List<MoveEntry> entries) {
+        return new JournalRecord(Type.GAME_ADDED, null, null, gameId, entries);
+    }
+
+    public static JournalRecord gameDeleted(int gameId) {
+        return new JournalRecord(Type.GAME_DELETED, null, null, gameId, Collections.emptyList());
+    }
+
+    public static JournalRecord gameSequence(int nextGameId) {
+        return new JournalRecord(Type.GAME_SEQUENCE, null, null, nextGameId, Collections.emptyList());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public MoveEntry getEntry() {
+        return entry;
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public List<MoveEntry> getEntries() {
+        return entries;
+    }
+}
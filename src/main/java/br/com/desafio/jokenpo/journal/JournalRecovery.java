@@ -0,0 +1,189 @@
+package br.com.desafio.jokenpo.journal;
+
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.Move;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import br.com.desafio.jokenpo.repository.MoveRepository;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "jokenpo.journal.enabled", havingValue = "true")
+public class JournalRecovery {
+
+    static final String SNAPSHOT = "snapshot.bin";
+    static final String SNAPSHOT_TMP = "snapshot.tmp";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalRecovery.class);
+
+    @Autowired
+    private FileJournal journal;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MoveRepository moveRepository;
+
+    @Autowired
+    private MoveEntryRepository moveEntryRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private ExecutorService snapshots;
+
+    @PostConstruct
+    public void recover() throws IOException {
+        long started = System.nanoTime();
+        long firstSegment = 0;
+        long records = 0;
+        Path snapshot = journal.directory().resolve(SNAPSHOT);
+        if (Files.exists(snapshot)) {
+            try (JournalReader reader = open(snapshot)) {
+                if (!reader.readHeader(JournalCodec.SNAPSHOT_MAGIC)) {
+                    throw new IOException("Snapshot inválido: " + snapshot);
+                }
+                firstSegment = reader.readLong();
+                records += replay(reader);
+            }
+        }
+        long nextSegment = firstSegment;
+        for (long segment : journal.segments()) {
+            if (segment < firstSegment) {
+                continue;
+            }
+            try (JournalReader reader = open(journal.segmentPath(segment))) {
+                if (reader.readHeader(JournalCodec.SEGMENT_MAGIC)) {
+                    records += replay(reader);
+                }
+            }
+            nextSegment = segment + 1;
+        }
+        LOGGER.info("Journal recuperado: {} registros em {} ms", records, (System.nanoTime() - started) / 1_000_000);
+        snapshots = Executors.newSingleThreadExecutor(r -> new Thread(r, "jokenpo-snapshot"));
+        // Always continue in a fresh segment, so a torn tail left by a crash is never appended to.
+        journal.start(nextSegment, segment -> snapshots.execute(() -> snapshot(segment)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (snapshots != null) {
+            snapshots.shutdown();
+        }
+    }
+
+    void snapshot(long firstSegment) {
+        Path directory = journal.directory();
+        Path tmp = directory.resolve(SNAPSHOT_TMP);
+        try {
+            // Taken after the rotation: the changes journaled in an older segment may still be applying,
+            // so wait for them before reading the state. Records of the new segment may be captured too:
+            // replaying them again on top is idempotent.
+            journal.awaitChanges();
+            try (JournalWriter writer = new JournalWriter(FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), FileJournal.BUFFER_SIZE)) {
+                writer.writeHeader(JournalCodec.SNAPSHOT_MAGIC, firstSegment);
+                writer.write(JournalRecord.gameSequence(gameRepository.nextKey()));
+                for (Player player : playerRepository.getPlayers().orElseThrow()) {
+                    writer.write(JournalRecord.playerAdded(player.getPlayer()));
+                }
+                for (Move move : moveRepository.getMoves().orElseThrow()) {
+                    writer.write(JournalRecord.moveAdded(move.getMove()));
+                }
+                for (Map.Entry<String, List<MoveEntry>> room : moveEntryRepository.findActiveEntries().entrySet()) {
+                    for (MoveEntry entry : room.getValue()) {
+                        writer.write(JournalRecord.entryAdded(room.getKey(), entry));
+                    }
+                }
+                try (Stream<Game> games = gameRepository.streamHotGames(null)) {
+                    Iterator<Game> iterator = games.iterator();
+                    while (iterator.hasNext()) {
+                        Game game = iterator.next();
+                        writer.write(JournalRecord.gameAdded(game.getId(), game.getEntries()));
+                    }
+                }
+            }
+            // Games archived while the snapshot was written are only in the archive from now on.
+            gameRepository.forceArchive();
+            Files.move(tmp, directory.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            for (long segment : journal.segments()) {
+                if (segment < firstSegment) {
+                    Files.deleteIfExists(journal.segmentPath(segment));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Falha ao gravar o snapshot do journal em {}", directory, e);
+        }
+    }
+
+    private JournalReader open(Path path) throws IOException {
+        return new JournalReader(FileChannel.open(path, StandardOpenOption.READ), FileJournal.BUFFER_SIZE);
+    }
+
+    private long replay(JournalReader reader) throws IOException {
+        long records = 0;
+        JournalRecord record;
+        while ((record = reader.next()) != null) {
+            apply(record);
+            records++;
+        }
+        return records;
+    }
+
+    private void apply(JournalRecord record) {
+        switch (record.getType()) {
+            case PLAYER_ADDED:
+                playerRepository.addPlayer(new Player(record.getKey()));
+                break;
+            case PLAYER_DELETED:
+                playerRepository.deletePlayer(new Player(record.getKey()));
+                break;
+            case MOVE_ADDED:
+                moveRepository.addMove(new Move(record.getKey()));
+                break;
+            case MOVE_DELETED:
+                moveRepository.deleteMove(new Move(record.getKey()));
+                break;
+            case ENTRY_ADDED:
+                moveEntryRepository.addEntry(record.getKey(), record.getEntry());
+                break;
+            case ROUND_CLOSED:
+                moveEntryRepository.takeEntries(record.getKey(), 0);
+                break;
+            case GAME_ADDED:
+                gameRepository.restoreGame(record.getGameId(), record.getEntries());
+                break;
+            case GAME_DELETED:
+                gameRepository.deleteGame(record.getGameId());
+                break;
+            case GAME_SEQUENCE:
+                gameRepository.restoreSequence(record.getGameId());
+                break;
+        }
+    }
+
+}
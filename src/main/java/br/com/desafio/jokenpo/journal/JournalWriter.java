@@ -0,0 +1,77 @@
+package br.com.desafio.jokenpo.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+final class JournalWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final CRC32 crc;
+    private ByteBuffer buffer;
+
+    JournalWriter(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.crc = new CRC32();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void writeHeader(int magic, long startSegment) throws IOException {
+        buffer.putInt(magic);
+        buffer.put(JournalCodec.VERSION);
+        if (magic == JournalCodec.SNAPSHOT_MAGIC) {
+            buffer.putLong(startSegment);
+        }
+        flush();
+    }
+
+    void write(JournalRecord record) throws IOException {
+        while (true) {
+            int start = buffer.position();
+            if (buffer.remaining() > JournalCodec.FRAME_HEADER_SIZE) {
+                try {
+                    buffer.position(start + JournalCodec.FRAME_HEADER_SIZE);
+                    JournalCodec.encode(record, buffer);
+                    int end = buffer.position();
+                    ByteBuffer payload = buffer.duplicate();
+                    payload.position(start + JournalCodec.FRAME_HEADER_SIZE).limit(end);
+                    crc.reset();
+                    crc.update(payload);
+                    buffer.putInt(start, end - start - JournalCodec.FRAME_HEADER_SIZE);
+                    buffer.putInt(start + 4, (int) crc.getValue());
+                    return;
+                } catch (BufferOverflowException e) {
+                    buffer.position(start);
+                }
+            }
+            if (start == 0) {
+                buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+            } else {
+                flush();
+            }
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    void force() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.desafio.jokenpo.metrics;
+
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataConflictException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts the exceptions thrown by the controllers and lets the next resolver handle them.
+ */
+@Component
+public class ExceptionMetrics implements HandlerExceptionResolver, Ordered {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        counter(DataNotFoundException.class);
+        counter(DataConflictException.class);
+        counter(BadRequestException.class);
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                         Exception ex) {
+        counter(ex.getClass()).increment();
+        return null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Counter counter(Class<?> type) {
+        return counters.computeIfAbsent(type, t -> Counter.builder("jokenpo.exceptions")
+                .description("Exceções lançadas pela API")
+                .tag("exception", t.getSimpleName())
+                .register(meterRegistry));
+    }
+
+}
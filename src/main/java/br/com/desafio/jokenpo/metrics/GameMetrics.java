@@ -0,0 +1,10 @@
+package br.com.desafio.jokenpo.metrics;
+
+public interface GameMetrics {
+
+    GameMetrics NOOP = winner -> {
+    };
+
+    void roundResolved(int winner);
+
+}
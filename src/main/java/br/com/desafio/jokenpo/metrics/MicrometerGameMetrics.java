@@ -0,0 +1,84 @@
+package br.com.desafio.jokenpo.metrics;
+
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import br.com.desafio.jokenpo.repository.WriteBehindStats;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MicrometerGameMetrics implements GameMetrics {
+
+    private static final String DRAW = "empate";
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MoveEntryRepository moveEntryRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired(required = false)
+    private WriteBehindStats writeBehindStats;
+
+    private Counter[] rounds;
+
+    @PostConstruct
+    public void register() {
+        // Index 0 holds draws, so the winner code (NO_MOVE is -1) maps to winner + 1.
+        rounds = new Counter[rules.moveCount() + 1];
+        for (int winner = RuleSet.NO_MOVE; winner < rules.moveCount(); winner++) {
+            String outcome = winner == RuleSet.NO_MOVE ? DRAW : rules.moveName(winner).toLowerCase(Locale.ROOT);
+            rounds[winner + 1] = Counter.builder("jokenpo.rounds")
+                    .description("Rodadas resolvidas por jogada vencedora")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("jokenpo.players", playerRepository, PlayerRepository::countPlayers)
+                .description("Jogadores cadastrados")
+                .register(meterRegistry);
+        Gauge.builder("jokenpo.entries.active", moveEntryRepository, MoveEntryRepository::countActiveEntries)
+                .description("Jogadas aguardando o Jogar")
+                .register(meterRegistry);
+        Gauge.builder("jokenpo.games", gameRepository, GameRepository::countGames)
+                .description("Jogos armazenados")
+                .register(meterRegistry);
+        if (writeBehindStats != null) {
+            Gauge.builder("jokenpo.games.pending", writeBehindStats, WriteBehindStats::pendingGames)
+                    .description("Jogos aguardando gravação")
+                    .register(meterRegistry);
+            FunctionTimer.builder("jokenpo.games.flush", writeBehindStats, WriteBehindStats::flushes,
+                    WriteBehindStats::flushNanos, TimeUnit.NANOSECONDS)
+                    .description("Gravações em lote dos jogos pendentes")
+                    .register(meterRegistry);
+            FunctionCounter.builder("jokenpo.games.flush.failures", writeBehindStats, WriteBehindStats::flushFailures)
+                    .description("Gravações em lote que falharam e serão repetidas")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void roundResolved(int winner) {
+        rounds[winner + 1].increment();
+    }
+
+}
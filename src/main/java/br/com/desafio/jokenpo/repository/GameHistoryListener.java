@@ -0,0 +1,25 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+
+import java.util.List;
+
+/**
+ * Notified by {@link GameRepository} once for every stored game, including the ones restored or
+ * already archived at startup, and once when it is deleted. A game's deletion is always reported
+ * after its addition.
+ */
+public interface GameHistoryListener {
+
+    void gameAdded(Integer id, List<MoveEntry> entries);
+
+    /**
+     * Called instead of {@link #gameAdded} for games played before this startup.
+     */
+    default void gameRestored(Integer id, List<MoveEntry> entries) {
+        gameAdded(id, entries);
+    }
+
+    void gameDeleted(Integer id, List<MoveEntry> entries);
+
+}
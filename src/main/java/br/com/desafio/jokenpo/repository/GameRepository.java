@@ -1,42 +1,72 @@
 package br.com.desafio.jokenpo.repository;
 
+import br.com.desafio.jokenpo.entity.Game;
 import br.com.desafio.jokenpo.entity.MoveEntry;
-import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-@Repository
-public class GameRepository {
+/**
+ * Finished games, keyed by an increasing id that is never reused. Implementations notify the
+ * {@link GameHistoryListener} beans of every change.
+ */
+public interface GameRepository {
 
-    private final Map<Integer, List<MoveEntry>> games;
+    Integer addGame(List<MoveEntry> entries);
 
-    public GameRepository() {
-        games = new HashMap<>();
-    }
+    /**
+     * Stores the games under a contiguous block of ids and returns the first one.
+     */
+    Integer addGames(List<List<MoveEntry>> entries);
 
-    public void addGame(Integer key, List<MoveEntry> entries) {
-        games.put(key, entries);
-    }
+    /**
+     * Stores a game replayed from the journal under its original id.
+     */
+    void restoreGame(Integer key, List<MoveEntry> entries);
 
-    public void deleteGame(Integer key) {
-        games.remove(key);
-    }
+    void restoreSequence(Integer nextKey);
 
-    public Map<Integer, List<MoveEntry>> findGames() {
-        return games;
+    Integer nextKey();
+
+    void deleteGame(Integer key);
+
+    /**
+     * Moves the oldest games to the archive, keeping the newest {@code hotGames} in memory.
+     * Returns how many games were archived.
+     */
+    default int archiveColdGames(int hotGames, int batchSize) {
+        return 0;
     }
 
-    public Optional<Map.Entry<Integer, List<MoveEntry>>> findGameById(Integer id) {
-        return games.entrySet().stream()
-                .filter(g -> g.getKey().equals(id))
-                .findAny();
+    default void forceArchive() {
     }
 
-    public Integer lastGame() {
-        return games.size() - 1;
+    /**
+     * Changes after every delete. Stored games are never modified, so a game read under an
+     * unchanged version is still current.
+     */
+    long version();
+
+    Map<Integer, List<MoveEntry>> findGames();
+
+    NavigableMap<Integer, List<MoveEntry>> findGamesBetween(Integer fromKey, Integer toKey);
+
+    NavigableMap<Integer, List<MoveEntry>> findGames(Integer after, int limit);
+
+    Stream<Game> streamGames(Integer after);
+
+    /**
+     * Games that are not in the archive, which are the ones a journal snapshot has to keep.
+     */
+    default Stream<Game> streamHotGames(Integer after) {
+        return streamGames(after);
     }
 
+    Optional<List<MoveEntry>> findGameById(Integer id);
+
+    Integer countGames();
+
 }
@@ -1,58 +1,37 @@
 package br.com.desafio.jokenpo.repository;
 
 import br.com.desafio.jokenpo.entity.MoveEntry;
-import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-@Repository
-public class MoveEntryRepository {
+/**
+ * Entries waiting for the "Jogar" of their room.
+ */
+public interface MoveEntryRepository {
 
-    private List<MoveEntry> entries;
+    /**
+     * Returns false if the player already has an entry in the room's current game.
+     */
+    boolean addEntry(String room, MoveEntry me);
 
-    public MoveEntryRepository() {
-        entries = new ArrayList<>();
-    }
+    /**
+     * Closes the room's current game and returns its entries, or empty if it has fewer than
+     * {@code minimum} entries. Entries added afterwards go to the room's next game.
+     */
+    Optional<List<MoveEntry>> takeEntries(String room, int minimum);
 
-    public void addEntry(MoveEntry me) {
-        entries.add(me);
-    }
+    Map<String, List<MoveEntry>> findActiveEntries();
 
-    public void clearEntries() {
-        entries = new ArrayList<>();
-    }
+    boolean findEntryByPlayer(String player);
 
-    public Optional<List<MoveEntry>> getEntries() {
-        return Optional.ofNullable(entries);
-    }
+    boolean findEntryByMove(String move);
 
-    public List<MoveEntry> getWinnerMove(String winnerMove) {
-        return entries.stream()
-                .filter(e -> e.getMove().toUpperCase().contains(winnerMove.toUpperCase()))
-                .collect(Collectors.toList());
-    }
+    boolean findPlayerOnEntries(String room, String player);
 
-    public boolean findEntryByPlayer(String player) {
-        return entries.stream().anyMatch(e -> e.getPlayer().contains(player));
-    }
+    Integer countEntries(String room);
 
-    public boolean findEntryByMove(String move) {
-        return entries.stream().anyMatch(e -> e.getMove().contains(move));
-    }
+    int countActiveEntries();
 
-    public boolean findPlayerOnEntries(String player) {
-        return entries.stream().anyMatch(e -> e.getPlayer().toUpperCase().contains(player.toUpperCase()));
-    }
-
-    public boolean findMoveOnEntries(String move) {
-        return entries.stream().anyMatch(e -> e.getMove().toUpperCase().contains(move.toUpperCase()) ||
-                e.getMove().toUpperCase().contains("Jogada".toUpperCase() + " " + move.toUpperCase()));
-    }
-
-    public Integer countEntries() {
-        return entries.size();
-    }
 }
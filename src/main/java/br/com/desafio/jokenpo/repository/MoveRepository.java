@@ -1,41 +1,31 @@
 package br.com.desafio.jokenpo.repository;
 
 import br.com.desafio.jokenpo.entity.Move;
-import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-@Repository
-public class MoveRepository {
+/**
+ * Registered moves, matched through {@link br.com.desafio.jokenpo.entity.NameTable#moveKey}.
+ */
+public interface MoveRepository {
 
-    private final List<Move> moves;
+    /**
+     * Returns false if the move is already registered.
+     */
+    boolean addMove(Move move);
 
-    public MoveRepository() {
-        moves = new ArrayList<>();
-    }
+    void deleteMove(Move move);
 
-    public void addMove(Move move) {
-        moves.add(move);
-    }
+    /**
+     * Changes after every add or delete, once the change is visible to readers.
+     */
+    long version();
 
-    public void deleteMove(Move move) {
-        moves.remove(move);
-    }
+    Optional<List<Move>> getMoves();
 
-    public Optional<List<Move>> getMoves() {
-        return Optional.ofNullable(moves);
-    }
+    Optional<Move> getMoveByMove(String move);
 
-    public Optional<Move> getMoveByMove(String move) {
-        return moves.stream()
-                .filter(entry -> entry.getMove().contains(move))
-                .findAny();
-    }
-
-    public boolean findMove(String move) {
-        return moves.stream().anyMatch(m -> m.getMove().contains(move));
-    }
+    boolean findMove(String move);
 
 }
@@ -1,41 +1,34 @@
 package br.com.desafio.jokenpo.repository;
 
 import br.com.desafio.jokenpo.entity.Player;
-import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-@Repository
-public class PlayerRepository {
+/**
+ * Registered players. Names are matched through {@link br.com.desafio.jokenpo.entity.NameTable#playerKey},
+ * so lookups ignore case and surrounding spaces.
+ */
+public interface PlayerRepository {
 
-    private final List<Player> players;
+    /**
+     * Returns false if a player with the same name is already registered.
+     */
+    boolean addPlayer(Player player);
 
-    public PlayerRepository() {
-        players = new ArrayList<>();
-    }
+    void deletePlayer(Player player);
 
-    public void addPlayer(Player player) {
-        players.add(player);
-    }
+    /**
+     * Changes after every add or delete, once the change is visible to readers.
+     */
+    long version();
 
-    public void deletePlayer(Player player) {
-        players.remove(player);
-    }
+    Optional<List<Player>> getPlayers();
 
-    public Optional<List<Player>> getPlayers() {
-        return Optional.ofNullable(players);
-    }
+    Optional<Player> getPlayerByPlayer(String player);
 
-    public Optional<Player> getPlayerByPlayer(String player) {
-        return players.stream()
-                .filter(entry -> entry.getPlayer().contains(player))
-                .findAny();
-    }
+    boolean findPlayer(String player);
 
-    public boolean findPlayer(String player) {
-        return players.stream().anyMatch(p -> p.getPlayer().contains(player));
-    }
+    int countPlayers();
 
 }
@@ -0,0 +1,17 @@
+package br.com.desafio.jokenpo.repository;
+
+/**
+ * Exposed by the backends that acknowledge games before writing them, so the depth of the queue,
+ * the time spent flushing it and the failed flushes can be monitored.
+ */
+public interface WriteBehindStats {
+
+    int pendingGames();
+
+    long flushes();
+
+    long flushNanos();
+
+    long flushFailures();
+
+}
@@ -0,0 +1,593 @@
+package br.com.desafio.jokenpo.repository.jdbc;
+
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.WriteBehindStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Games stored one row per entry in {@code game_entry}, whose primary key (game_id, entry_index)
+ * serves the lookups by id and the paging by id. A game is written with a single multi-row
+ * insert; batches go through JDBC batching in one transaction.
+ *
+ * <p>Ids are reserved from {@code game_sequence} in blocks, so an id is never reused after a
+ * restart even when the newest games were deleted.
+ *
+ * <p>With {@code jokenpo.jdbc.write-behind.enabled} new games are acknowledged once queued: a
+ * flusher thread writes them in batches of up to {@code flush-size} games, waiting at most
+ * {@code flush-interval-ms} to fill one. A full queue blocks the producers. Lookups by id see the
+ * queued games; scans and deletes flush the queue first. A batch that fails to be written stays
+ * pending and is retried on its own with a growing delay; scans and shutdown retry it at once and
+ * fail if it still cannot be written.
+ */
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "jdbc")
+public class JdbcGameRepository implements GameRepository, WriteBehindStats {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcGameRepository.class);
+    private static final long POLL_MILLIS = 100;
+    private static final long RETRY_MILLIS = 10;
+    private static final long MAX_RETRY_MILLIS = 5000;
+
+    private static final String INSERT = "INSERT INTO game_entry (game_id, entry_index, player, move) VALUES ";
+    private static final String SELECT = "SELECT game_id, player, move FROM game_entry ";
+    private static final int PAGE_SIZE = 1000;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+    private final ConcurrentMap<Integer, String> inserts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, List<MoveEntry>> pending = new ConcurrentHashMap<>();
+    private final Queue<Game> retries = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock(true);
+    private final Condition written = flushLock.newCondition();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    // Held shared by the adds until their listeners are notified and exclusively by the deletes, so a
+    // game's deletion is never reported before its addition, and by stop() while it clears the flag.
+    private final ReadWriteLock deletes = new ReentrantReadWriteLock();
+    private BlockingQueue<Game> queue;
+    private volatile boolean running;
+    private Thread flusher;
+    private int nextId;
+    private int reservedId;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    private List<GameHistoryListener> listeners = Collections.emptyList();
+
+    @Value("${jokenpo.jdbc.id-block:1024}")
+    private int idBlock = 1024;
+
+    @Value("${jokenpo.jdbc.write-behind.enabled:false}")
+    private boolean writeBehind;
+
+    @Value("${jokenpo.jdbc.write-behind.queue-capacity:65536}")
+    private int queueCapacity = 65536;
+
+    @Value("${jokenpo.jdbc.write-behind.flush-size:1024}")
+    private int flushSize = 1024;
+
+    @Value("${jokenpo.jdbc.write-behind.flush-interval-ms:10}")
+    private long flushIntervalMillis = 10;
+
+    @PostConstruct
+    public void start() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS game_entry (game_id INT NOT NULL, entry_index SMALLINT NOT NULL, "
+                + "player VARCHAR(255) NOT NULL, move VARCHAR(255) NOT NULL, PRIMARY KEY (game_id, entry_index))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS game_sequence (next_id INT NOT NULL)");
+        Integer stored = jdbcTemplate.queryForObject("SELECT MAX(next_id) FROM game_sequence", Integer.class);
+        if (stored == null) {
+            jdbcTemplate.update("INSERT INTO game_sequence (next_id) VALUES (0)");
+            stored = 0;
+        }
+        nextId = stored;
+        reservedId = stored;
+        try (Stream<Game> games = streamGames(null)) {
+            games.forEach(game -> {
+                count.incrementAndGet();
+                for (GameHistoryListener listener : listeners) {
+                    listener.gameRestored(game.getId(), game.getEntries());
+                }
+            });
+        }
+        if (writeBehind) {
+            queue = new ArrayBlockingQueue<>(queueCapacity);
+            running = true;
+            flusher = new Thread(this::flushLoop, "jokenpo-write-behind");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        // Exclusive, so no producer is between reading the flag and queuing its game.
+        deletes.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            deletes.writeLock().unlock();
+        }
+        LockSupport.unpark(flusher);
+        flusher.join();
+        // The games the flusher left queued or failed to write.
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(pending.size() + " jogos enfileirados não foram gravados", e);
+        }
+    }
+
+    @Override
+    public Integer addGame(List<MoveEntry> entries) {
+        int id = reserve(1);
+        deletes.readLock().lock();
+        try {
+            if (running) {
+                enqueue(id, entries);
+                added(id, entries);
+                return id;
+            }
+            Object[] values = new Object[entries.size() * 4];
+            for (int i = 0; i < entries.size(); i++) {
+                values[i * 4] = id;
+                values[i * 4 + 1] = i;
+                values[i * 4 + 2] = entries.get(i).getPlayer();
+                values[i * 4 + 3] = entries.get(i).getMove();
+            }
+            jdbcTemplate.update(inserts.computeIfAbsent(entries.size(), JdbcGameRepository::insertRows), values);
+            added(id, entries);
+        } finally {
+            deletes.readLock().unlock();
+        }
+        return id;
+    }
+
+    @Override
+    public Integer addGames(List<List<MoveEntry>> entries) {
+        int first = reserve(entries.size());
+        deletes.readLock().lock();
+        try {
+            if (running) {
+                for (int g = 0; g < entries.size(); g++) {
+                    enqueue(first + g, entries.get(g));
+                }
+            } else {
+                List<Game> games = new ArrayList<>(entries.size());
+                for (int g = 0; g < entries.size(); g++) {
+                    games.add(new Game(first + g, entries.get(g)));
+                }
+                insert(games);
+            }
+            for (int g = 0; g < entries.size(); g++) {
+                added(first + g, entries.get(g));
+            }
+        } finally {
+            deletes.readLock().unlock();
+        }
+        return first;
+    }
+
+    @Override
+    public void restoreGame(Integer key, List<MoveEntry> entries) {
+        restoreSequence(key + 1);
+        if (findGameById(key).isPresent()) {
+            return;
+        }
+        Object[] values = new Object[entries.size() * 4];
+        for (int i = 0; i < entries.size(); i++) {
+            values[i * 4] = key;
+            values[i * 4 + 1] = i;
+            values[i * 4 + 2] = entries.get(i).getPlayer();
+            values[i * 4 + 3] = entries.get(i).getMove();
+        }
+        jdbcTemplate.update(inserts.computeIfAbsent(entries.size(), JdbcGameRepository::insertRows), values);
+        count.incrementAndGet();
+        for (GameHistoryListener listener : listeners) {
+            listener.gameRestored(key, entries);
+        }
+    }
+
+    @Override
+    public synchronized void restoreSequence(Integer nextKey) {
+        nextId = Math.max(nextId, nextKey);
+    }
+
+    @Override
+    public synchronized Integer nextKey() {
+        return nextId;
+    }
+
+    @Override
+    public void deleteGame(Integer key) {
+        deletes.writeLock().lock();
+        try {
+            if (pending.containsKey(key)) {
+                flush();
+            }
+            Optional<List<MoveEntry>> entries = findGameById(key);
+            if (entries.isPresent() && jdbcTemplate.update("DELETE FROM game_entry WHERE game_id = ?", key) > 0) {
+                count.decrementAndGet();
+                version.incrementAndGet();
+                for (GameHistoryListener listener : listeners) {
+                    listener.gameDeleted(key, entries.get());
+                }
+            }
+        } finally {
+            deletes.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Map<Integer, List<MoveEntry>> findGames() {
+        flush();
+        return jdbcTemplate.query(SELECT + "ORDER BY game_id, entry_index", games(Integer.MAX_VALUE));
+    }
+
+    @Override
+    public NavigableMap<Integer, List<MoveEntry>> findGamesBetween(Integer fromKey, Integer toKey) {
+        flush();
+        return jdbcTemplate.query(SELECT + "WHERE game_id BETWEEN ? AND ? ORDER BY game_id, entry_index",
+                games(Integer.MAX_VALUE), fromKey, toKey);
+    }
+
+    @Override
+    public NavigableMap<Integer, List<MoveEntry>> findGames(Integer after, int limit) {
+        flush();
+        int from = after == null ? -1 : after;
+        // The last id of the page comes from a LIMIT subquery, so the scan stops at the page instead of the table end.
+        return jdbcTemplate.query(SELECT + "WHERE game_id > ? AND game_id <= (SELECT MAX(game_id) FROM "
+                        + "(SELECT DISTINCT game_id FROM game_entry WHERE game_id > ? ORDER BY game_id LIMIT ?) page) "
+                        + "ORDER BY game_id, entry_index",
+                games(limit), from, from, limit);
+    }
+
+    @Override
+    public Stream<Game> streamGames(Integer after) {
+        flush();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Pages(after),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Optional<List<MoveEntry>> findGameById(Integer id) {
+        // Checked before the table: a queued game leaves this map only after it is written.
+        List<MoveEntry> queued = pending.get(id);
+        if (queued != null) {
+            return Optional.of(queued);
+        }
+        List<MoveEntry> entries = jdbcTemplate.query("SELECT player, move FROM game_entry WHERE game_id = ? ORDER BY entry_index",
+                (rs, row) -> new MoveEntry(rs.getString(1), rs.getString(2)), id);
+        return entries.isEmpty() ? Optional.empty() : Optional.of(entries);
+    }
+
+    @Override
+    public Integer countGames() {
+        return count.get();
+    }
+
+    @Override
+    public int pendingGames() {
+        return pending.size();
+    }
+
+    @Override
+    public long flushes() {
+        return flushes.get();
+    }
+
+    @Override
+    public long flushNanos() {
+        return flushNanos.get();
+    }
+
+    @Override
+    public long flushFailures() {
+        return flushFailures.get();
+    }
+
+    /**
+     * Writes every game queued so far before returning, or throws the failure of the last attempt.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<Integer> waiting = new HashSet<>(pending.keySet());
+        flushLock.lock();
+        try {
+            List<Game> batch = new ArrayList<>();
+            while (true) {
+                waiting.removeIf(id -> !pending.containsKey(id));
+                if (waiting.isEmpty()) {
+                    return;
+                }
+                drainRetries(batch, Integer.MAX_VALUE);
+                queue.drainTo(batch);
+                if (batch.isEmpty()) {
+                    // Taken by the flusher, which writes or requeues them under this lock.
+                    written.awaitUninterruptibly();
+                    continue;
+                }
+                try {
+                    write(batch);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void enqueue(int id, List<MoveEntry> entries) {
+        pending.put(id, entries);
+        try {
+            queue.put(new Game(id, entries));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.remove(id);
+            throw new IllegalStateException("Interrompido aguardando espaço na fila de gravação", e);
+        }
+    }
+
+    private void flushLoop() {
+        List<Game> batch = new ArrayList<>(flushSize);
+        int failures = 0;
+        while (running || !queue.isEmpty()) {
+            try {
+                gather(batch);
+            } catch (InterruptedException e) {
+                // Only stop() ends the flusher: while the flag is set, producers keep queuing for it.
+                LOGGER.warn("Gravação posterior interrompida, a fila continua sendo gravada");
+                retries.addAll(batch);
+                batch.clear();
+                continue;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            // Only the write is locked, so flush() never waits behind an idle poll.
+            flushLock.lock();
+            try {
+                write(batch);
+                failures = 0;
+            } catch (RuntimeException e) {
+                failures++;
+            } finally {
+                batch.clear();
+                flushLock.unlock();
+            }
+            if (failures > 0 && running) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(
+                        Math.min(MAX_RETRY_MILLIS, RETRY_MILLIS << Math.min(failures - 1, 16))));
+            }
+        }
+    }
+
+    private void gather(List<Game> batch) throws InterruptedException {
+        // Failed games are retried apart, so a game that cannot be written does not hold back the new ones.
+        if (drainRetries(batch, flushSize)) {
+            return;
+        }
+        Game first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < flushSize) {
+            queue.drainTo(batch, flushSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= flushSize || remaining <= 0 || !running) {
+                break;
+            }
+            Game next = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)),
+                    TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private boolean drainRetries(List<Game> batch, int max) {
+        Game game;
+        while (batch.size() < max && (game = retries.poll()) != null) {
+            batch.add(game);
+        }
+        return !batch.isEmpty();
+    }
+
+    /**
+     * Called with the flush lock held. A failed batch stays pending and goes back to the retries.
+     */
+    private void write(List<Game> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            flushFailures.incrementAndGet();
+            retries.addAll(batch);
+            written.signalAll();
+            LOGGER.warn("Falha ao gravar {} jogos pendentes, nova tentativa agendada", batch.size(), e);
+            throw e;
+        }
+        for (Game game : batch) {
+            pending.remove(game.getId());
+        }
+        flushes.incrementAndGet();
+        flushNanos.addAndGet(System.nanoTime() - start);
+        written.signalAll();
+    }
+
+    private void insert(List<Game> games) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Game game : games) {
+            List<MoveEntry> entries = game.getEntries();
+            for (int i = 0; i < entries.size(); i++) {
+                rows.add(new Object[]{game.getId(), i, entries.get(i).getPlayer(), entries.get(i).getMove()});
+            }
+        }
+        transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT + "(?, ?, ?, ?)", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Object[] row = rows.get(i);
+                ps.setInt(1, (Integer) row[0]);
+                ps.setInt(2, (Integer) row[1]);
+                ps.setString(3, (String) row[2]);
+                ps.setString(4, (String) row[3]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        }));
+    }
+
+    private synchronized int reserve(int ids) {
+        if (nextId + ids > reservedId) {
+            int reserved = nextId + Math.max(idBlock, ids);
+            jdbcTemplate.update("UPDATE game_sequence SET next_id = ?", reserved);
+            reservedId = reserved;
+        }
+        int first = nextId;
+        nextId += ids;
+        return first;
+    }
+
+    private void added(int id, List<MoveEntry> entries) {
+        count.incrementAndGet();
+        for (GameHistoryListener listener : listeners) {
+            listener.gameAdded(id, entries);
+        }
+    }
+
+    private static String insertRows(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Reads rows in (game_id, entry_index) order and stops after {@code limit} games, leaving the
+     * rest of the result set unread.
+     */
+    private static ResultSetExtractor<NavigableMap<Integer, List<MoveEntry>>> games(int limit) {
+        return rs -> {
+            NavigableMap<Integer, List<MoveEntry>> games = new TreeMap<>();
+            List<MoveEntry> current = null;
+            int currentId = 0;
+            while (rs.next()) {
+                int id = rs.getInt(1);
+                if (current == null || id != currentId) {
+                    if (games.size() == limit) {
+                        break;
+                    }
+                    current = new ArrayList<>();
+                    currentId = id;
+                    games.put(id, current);
+                }
+                current.add(new MoveEntry(rs.getString(2), rs.getString(3)));
+            }
+            return games;
+        };
+    }
+
+    private class Pages implements Iterator<Game> {
+
+        private Integer cursor;
+        private Iterator<Map.Entry<Integer, List<MoveEntry>>> page = Collections.emptyIterator();
+        private boolean last;
+
+        Pages(Integer after) {
+            cursor = after;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !last) {
+                NavigableMap<Integer, List<MoveEntry>> games = findGames(cursor, PAGE_SIZE);
+                last = games.size() < PAGE_SIZE;
+                page = games.entrySet().iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public Game next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Integer, List<MoveEntry>> game = page.next();
+            cursor = game.getKey();
+            return new Game(game.getKey(), game.getValue());
+        }
+
+    }
+
+}
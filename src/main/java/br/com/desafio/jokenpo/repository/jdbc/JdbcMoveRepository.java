@@ -0,0 +1,71 @@
+package br.com.desafio.jokenpo.repository.jdbc;
+
+import br.com.desafio.jokenpo.entity.Move;
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.repository.MoveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "jdbc")
+public class JdbcMoveRepository implements MoveRepository {
+
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS move (move_key VARCHAR(255) PRIMARY KEY, move VARCHAR(255) NOT NULL)");
+    }
+
+    @Override
+    public boolean addMove(Move move) {
+        try {
+            jdbcTemplate.update("INSERT INTO move (move_key, move) VALUES (?, ?)",
+                    NameTable.moveKey(move.getMove()), move.getMove());
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void deleteMove(Move move) {
+        if (jdbcTemplate.update("DELETE FROM move WHERE move_key = ?", NameTable.moveKey(move.getMove())) > 0) {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Optional<List<Move>> getMoves() {
+        return Optional.of(jdbcTemplate.query("SELECT move FROM move", (rs, row) -> new Move(rs.getString(1))));
+    }
+
+    @Override
+    public Optional<Move> getMoveByMove(String move) {
+        return jdbcTemplate.query("SELECT move FROM move WHERE move_key = ?",
+                (rs, row) -> new Move(rs.getString(1)), NameTable.moveKey(move)).stream().findFirst();
+    }
+
+    @Override
+    public boolean findMove(String move) {
+        return getMoveByMove(move).isPresent();
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.desafio.jokenpo.repository.jdbc;
+
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "jdbc")
+public class JdbcPlayerRepository implements PlayerRepository {
+
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS player (player_key VARCHAR(255) PRIMARY KEY, player VARCHAR(255) NOT NULL)");
+    }
+
+    @Override
+    public boolean addPlayer(Player player) {
+        try {
+            jdbcTemplate.update("INSERT INTO player (player_key, player) VALUES (?, ?)",
+                    NameTable.playerKey(player.getPlayer()), player.getPlayer());
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void deletePlayer(Player player) {
+        if (jdbcTemplate.update("DELETE FROM player WHERE player_key = ?", NameTable.playerKey(player.getPlayer())) > 0) {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Optional<List<Player>> getPlayers() {
+        return Optional.of(jdbcTemplate.query("SELECT player FROM player", (rs, row) -> new Player(rs.getString(1))));
+    }
+
+    @Override
+    public Optional<Player> getPlayerByPlayer(String player) {
+        return jdbcTemplate.query("SELECT player FROM player WHERE player_key = ?",
+                (rs, row) -> new Player(rs.getString(1)), NameTable.playerKey(player)).stream().findFirst();
+    }
+
+    @Override
+    public boolean findPlayer(String player) {
+        return getPlayerByPlayer(player).isPresent();
+    }
+
+    @Override
+    public int countPlayers() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player", Integer.class);
+    }
+
+}
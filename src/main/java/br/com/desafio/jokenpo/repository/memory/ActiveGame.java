@@ -0,0 +1,78 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.journal.JournalRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class ActiveGame {
+
+    static final int ADDED = 0;
+    static final int DUPLICATED = 1;
+    static final int CLOSED = 2;
+
+    private final String room;
+    private final Journal journal;
+    private List<MoveEntry> entries;
+    private final Set<Integer> players;
+    private final Set<Integer> moves;
+    private boolean closed;
+
+    ActiveGame(String room, Journal journal) {
+        this.room = room;
+        this.journal = journal;
+        entries = new ArrayList<>();
+        players = new HashSet<>();
+        moves = new HashSet<>();
+    }
+
+    synchronized int addEntry(MoveEntry me) {
+        if (closed) {
+            return CLOSED;
+        }
+        if (players.contains(me.getPlayerId())) {
+            return DUPLICATED;
+        }
+        // Journaled first, so a rejected append leaves the round untouched.
+        journal.append(JournalRecord.entryAdded(room, me));
+        players.add(me.getPlayerId());
+        moves.add(me.getMoveId());
+        entries.add(me);
+        return ADDED;
+    }
+
+    synchronized List<MoveEntry> close(int minimum) {
+        if (closed || entries.size() < minimum) {
+            return null;
+        }
+        journal.append(JournalRecord.roundClosed(room));
+        closed = true;
+        List<MoveEntry> finished = entries;
+        entries = Collections.emptyList();
+        players.clear();
+        moves.clear();
+        return finished;
+    }
+
+    synchronized List<MoveEntry> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    synchronized boolean containsPlayer(int playerId) {
+        return players.contains(playerId);
+    }
+
+    synchronized boolean containsMove(int moveId) {
+        return moves.contains(moveId);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+}
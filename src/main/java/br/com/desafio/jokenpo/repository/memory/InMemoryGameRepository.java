@@ -0,0 +1,362 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.archive.GameArchive;
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.journal.JournalRecord;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryGameRepository implements GameRepository {
+
+    private final AtomicInteger sequence;
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentMap<Integer, List<MoveEntry>> games;
+    private final ConcurrentNavigableMap<Integer, List<MoveEntry>> history;
+    // Held shared from reserving an id until the game is visible; the archiver takes it exclusively to find
+    // the id below which no game can still arrive.
+    private final ReadWriteLock reservations = new ReentrantReadWriteLock();
+
+    @Autowired(required = false)
+    private Journal journal = Journal.NOOP;
+
+    @Autowired
+    private NameTables names = new NameTables();
+
+    @Autowired(required = false)
+    private GameArchive archive;
+
+    @Autowired(required = false)
+    private List<GameHistoryListener> listeners = Collections.emptyList();
+
+    public InMemoryGameRepository() {
+        sequence = new AtomicInteger();
+        games = new ConcurrentHashMap<>();
+        history = new ConcurrentSkipListMap<>();
+    }
+
+    @PostConstruct
+    public void loadArchive() {
+        if (archive == null || listeners.isEmpty()) {
+            return;
+        }
+        for (Game game = archive.higher(null); game != null; game = archive.higher(game.getId())) {
+            restored(game.getId(), game.getEntries());
+        }
+    }
+
+    @Override
+    public Integer addGame(List<MoveEntry> entries) {
+        entries = names.resolve(entries);
+        journal.beginChange();
+        reservations.readLock().lock();
+        Integer key = sequence.getAndIncrement();
+        try {
+            // Journaled before it becomes visible, so a delete of this game is always written after it.
+            journal.append(JournalRecord.gameAdded(key, entries));
+            // The archiver only moves games that are already in both maps.
+            history.put(key, entries);
+            // Announced before a delete can find it, so listeners always see the addition first.
+            added(key, entries);
+            games.put(key, entries);
+        } finally {
+            reservations.readLock().unlock();
+            journal.endChange();
+        }
+        return key;
+    }
+
+    @Override
+    public Integer addGames(List<List<MoveEntry>> entries) {
+        entries = entries.stream().map(names::resolve).collect(Collectors.toList());
+        journal.beginChange();
+        reservations.readLock().lock();
+        int first = sequence.getAndAdd(entries.size());
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                // One at a time, so a rejected append leaves only journaled games visible.
+                journal.append(JournalRecord.gameAdded(first + i, entries.get(i)));
+                history.put(first + i, entries.get(i));
+                added(first + i, entries.get(i));
+                games.put(first + i, entries.get(i));
+            }
+        } finally {
+            reservations.readLock().unlock();
+            journal.endChange();
+        }
+        return first;
+    }
+
+    @Override
+    public void restoreGame(Integer key, List<MoveEntry> entries) {
+        entries = names.resolve(entries);
+        boolean restored;
+        reservations.readLock().lock();
+        try {
+            sequence.accumulateAndGet(key + 1, Math::max);
+            if (archive != null && archive.contains(key)) {
+                return;
+            }
+            history.put(key, entries);
+            restored = games.put(key, entries) == null;
+        } finally {
+            reservations.readLock().unlock();
+        }
+        if (restored) {
+            restored(key, entries);
+        }
+    }
+
+    @Override
+    public void restoreSequence(Integer nextKey) {
+        sequence.accumulateAndGet(nextKey, Math::max);
+    }
+
+    @Override
+    public Integer nextKey() {
+        return sequence.get();
+    }
+
+    @Override
+    public void deleteGame(Integer key) {
+        journal.beginChange();
+        try {
+            delete(key);
+        } finally {
+            journal.endChange();
+        }
+    }
+
+    private void delete(Integer key) {
+        List<List<MoveEntry>> deleted = new ArrayList<>(1);
+        games.computeIfPresent(key, (k, entries) -> {
+            journal.append(JournalRecord.gameDeleted(k));
+            history.remove(k);
+            deleted.add(entries);
+            return null;
+        });
+        if (!deleted.isEmpty()) {
+            version.incrementAndGet();
+            deleted(key, deleted.get(0));
+            return;
+        }
+        if (archive != null) {
+            Optional<List<MoveEntry>> archived = archive.findGame(key);
+            if (!archived.isPresent()) {
+                return;
+            }
+            // Replaying a delete that lost the race below is a no-op, losing an applied one is not.
+            journal.append(JournalRecord.gameDeleted(key));
+            if (archive.delete(key)) {
+                version.incrementAndGet();
+                deleted(key, archived.get());
+            }
+        }
+    }
+
+    @Override
+    public int archiveColdGames(int hotGames, int batchSize) {
+        if (archive == null) {
+            return 0;
+        }
+        int watermark;
+        reservations.writeLock().lock();
+        try {
+            watermark = sequence.get();
+        } finally {
+            reservations.writeLock().unlock();
+        }
+        // Sized once: the skip list counts its entries by walking them.
+        int limit = Math.min(batchSize, history.size() - hotGames);
+        if (limit <= 0) {
+            return 0;
+        }
+        int tail = archive.lastId();
+        List<Integer> moved = new ArrayList<>(limit);
+        Iterator<Integer> keys = history.headMap(watermark).keySet().iterator();
+        while (moved.size() < limit && keys.hasNext()) {
+            Integer key = keys.next();
+            // Restored below the archive tail: the archive only takes increasing ids, so it stays hot.
+            if (key <= tail) {
+                continue;
+            }
+            games.computeIfPresent(key, (k, entries) -> {
+                try {
+                    archive.append(k, entries);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                history.remove(k);
+                moved.add(k);
+                return null;
+            });
+        }
+        int archived = moved.size();
+        if (archived > 0) {
+            forceArchive();
+        }
+        return archived;
+    }
+
+    @Override
+    public void forceArchive() {
+        if (archive == null) {
+            return;
+        }
+        try {
+            archive.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Map<Integer, List<MoveEntry>> findGames() {
+        if (archive == null) {
+            return Collections.unmodifiableMap(history);
+        }
+        return collect(streamGames(null));
+    }
+
+    @Override
+    public NavigableMap<Integer, List<MoveEntry>> findGamesBetween(Integer fromKey, Integer toKey) {
+        if (archive == null) {
+            return Collections.unmodifiableNavigableMap(history.subMap(fromKey, true, toKey, true));
+        }
+        return collect(streamGames(fromKey - 1).takeWhile(g -> g.getId() <= toKey));
+    }
+
+    @Override
+    public NavigableMap<Integer, List<MoveEntry>> findGames(Integer after, int limit) {
+        return collect(streamGames(after).limit(limit));
+    }
+
+    @Override
+    public Stream<Game> streamGames(Integer after) {
+        if (archive == null) {
+            return streamHotGames(after);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new MergedGames(after),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Stream<Game> streamHotGames(Integer after) {
+        return after(after).entrySet().stream()
+                .map(g -> new Game(g.getKey(), g.getValue()));
+    }
+
+    @Override
+    public Optional<List<MoveEntry>> findGameById(Integer id) {
+        List<MoveEntry> entries = games.get(id);
+        if (entries != null || archive == null) {
+            return Optional.ofNullable(entries);
+        }
+        return archive.findGame(id);
+    }
+
+    @Override
+    public Integer countGames() {
+        return archive == null ? games.size() : (int) (games.size() + archive.countGames());
+    }
+
+    private void added(Integer key, List<MoveEntry> entries) {
+        for (GameHistoryListener listener : listeners) {
+            listener.gameAdded(key, entries);
+        }
+    }
+
+    private void restored(Integer key, List<MoveEntry> entries) {
+        for (GameHistoryListener listener : listeners) {
+            listener.gameRestored(key, entries);
+        }
+    }
+
+    private void deleted(Integer key, List<MoveEntry> entries) {
+        for (GameHistoryListener listener : listeners) {
+            listener.gameDeleted(key, entries);
+        }
+    }
+
+    private static NavigableMap<Integer, List<MoveEntry>> collect(Stream<Game> games) {
+        return games.collect(Collectors.toMap(Game::getId, Game::getEntries, (a, b) -> a, TreeMap::new));
+    }
+
+    private NavigableMap<Integer, List<MoveEntry>> after(Integer after) {
+        return after == null ? history : history.tailMap(after, false);
+    }
+
+    private class MergedGames implements Iterator<Game> {
+
+        private Integer cursor;
+        private Game next;
+
+        MergedGames(Integer after) {
+            cursor = after;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                Game cold = archive.higher(cursor);
+                Map.Entry<Integer, List<MoveEntry>> hot = cursor == null ? history.firstEntry() : history.higherEntry(cursor);
+                if (hot != null && (cold == null || hot.getKey() < cold.getId())) {
+                    next = new Game(hot.getKey(), hot.getValue());
+                } else {
+                    next = cold;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Game next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Game game = next;
+            cursor = game.getId();
+            next = null;
+            return game;
+        }
+
+    }
+
+}
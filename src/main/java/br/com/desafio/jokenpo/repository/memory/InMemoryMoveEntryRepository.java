@@ -0,0 +1,111 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+public class InMemoryMoveEntryRepository implements MoveEntryRepository {
+
+    private final ConcurrentMap<String, ActiveGame> rooms;
+
+    @Autowired(required = false)
+    private Journal journal = Journal.NOOP;
+
+    @Autowired
+    private NameTables names = new NameTables();
+
+    public InMemoryMoveEntryRepository() {
+        rooms = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean addEntry(String room, MoveEntry me) {
+        // The service only gets here for registered players and moves.
+        MoveEntry resolved = names.resolve(me);
+        journal.beginChange();
+        try {
+            while (true) {
+                ActiveGame game = rooms.computeIfAbsent(room, r -> new ActiveGame(r, journal));
+                int status = game.addEntry(resolved);
+                if (status != ActiveGame.CLOSED) {
+                    return status == ActiveGame.ADDED;
+                }
+                // A "Jogar" closed this round concurrently; retry on the room's next game.
+                rooms.remove(room, game);
+            }
+        } finally {
+            journal.endChange();
+        }
+    }
+
+    @Override
+    public Optional<List<MoveEntry>> takeEntries(String room, int minimum) {
+        ActiveGame game = rooms.get(room);
+        if (game == null) {
+            return Optional.empty();
+        }
+        List<MoveEntry> entries;
+        journal.beginChange();
+        try {
+            entries = game.close(minimum);
+        } finally {
+            journal.endChange();
+        }
+        if (entries == null) {
+            return Optional.empty();
+        }
+        rooms.remove(room, game);
+        return Optional.of(entries);
+    }
+
+    @Override
+    public Map<String, List<MoveEntry>> findActiveEntries() {
+        Map<String, List<MoveEntry>> active = new HashMap<>();
+        rooms.forEach((room, game) -> active.put(room, game.getEntries()));
+        return active;
+    }
+
+    @Override
+    public boolean findEntryByPlayer(String player) {
+        int id = names.players().find(player);
+        return id != NameTable.MISSING && rooms.values().stream().anyMatch(g -> g.containsPlayer(id));
+    }
+
+    @Override
+    public boolean findEntryByMove(String move) {
+        int id = names.moves().find(move);
+        return id != NameTable.MISSING && rooms.values().stream().anyMatch(g -> g.containsMove(id));
+    }
+
+    @Override
+    public boolean findPlayerOnEntries(String room, String player) {
+        ActiveGame game = rooms.get(room);
+        return game != null && game.containsPlayer(names.players().find(player));
+    }
+
+    @Override
+    public Integer countEntries(String room) {
+        ActiveGame game = rooms.get(room);
+        return game == null ? 0 : game.size();
+    }
+
+    @Override
+    public int countActiveEntries() {
+        int count = 0;
+        for (ActiveGame game : rooms.values()) {
+            count += game.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.entity.Move;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.journal.JournalRecord;
+import br.com.desafio.jokenpo.repository.MoveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMoveRepository implements MoveRepository {
+
+    private final ConcurrentMap<Integer, Move> moves;
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired(required = false)
+    private Journal journal = Journal.NOOP;
+
+    @Autowired
+    private NameTables names = new NameTables();
+
+    public InMemoryMoveRepository() {
+        moves = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean addMove(Move move) {
+        boolean added;
+        journal.beginChange();
+        try {
+            added = moves.computeIfAbsent(names.moves().intern(move.getMove()), k -> {
+                journal.append(JournalRecord.moveAdded(move.getMove()));
+                return move;
+            }) == move;
+        } finally {
+            journal.endChange();
+        }
+        if (added) {
+            version.incrementAndGet();
+        }
+        return added;
+    }
+
+    @Override
+    public void deleteMove(Move move) {
+        journal.beginChange();
+        try {
+            moves.computeIfPresent(names.moves().find(move.getMove()), (k, registered) -> {
+                journal.append(JournalRecord.moveDeleted(registered.getMove()));
+                return null;
+            });
+        } finally {
+            journal.endChange();
+        }
+        version.incrementAndGet();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Optional<List<Move>> getMoves() {
+        return Optional.of(new ArrayList<>(moves.values()));
+    }
+
+    @Override
+    public Optional<Move> getMoveByMove(String move) {
+        return Optional.ofNullable(moves.get(names.moves().find(move)));
+    }
+
+    @Override
+    public boolean findMove(String move) {
+        return moves.containsKey(names.moves().find(move));
+    }
+
+}
@@ -0,0 +1,92 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.journal.JournalRecord;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "jokenpo.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPlayerRepository implements PlayerRepository {
+
+    private final ConcurrentMap<Integer, Player> players;
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired(required = false)
+    private Journal journal = Journal.NOOP;
+
+    @Autowired
+    private NameTables names = new NameTables();
+
+    public InMemoryPlayerRepository() {
+        players = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean addPlayer(Player player) {
+        boolean added;
+        journal.beginChange();
+        try {
+            added = players.computeIfAbsent(names.players().intern(player.getPlayer()), k -> {
+                journal.append(JournalRecord.playerAdded(player.getPlayer()));
+                return player;
+            }) == player;
+        } finally {
+            journal.endChange();
+        }
+        if (added) {
+            version.incrementAndGet();
+        }
+        return added;
+    }
+
+    @Override
+    public void deletePlayer(Player player) {
+        journal.beginChange();
+        try {
+            players.computeIfPresent(names.players().find(player.getPlayer()), (k, registered) -> {
+                journal.append(JournalRecord.playerDeleted(registered.getPlayer()));
+                return null;
+            });
+        } finally {
+            journal.endChange();
+        }
+        version.incrementAndGet();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public Optional<List<Player>> getPlayers() {
+        return Optional.of(new ArrayList<>(players.values()));
+    }
+
+    @Override
+    public Optional<Player> getPlayerByPlayer(String player) {
+        return Optional.ofNullable(players.get(names.players().find(player)));
+    }
+
+    @Override
+    public boolean findPlayer(String player) {
+        return players.containsKey(names.players().find(player));
+    }
+
+    @Override
+    public int countPlayers() {
+        return players.size();
+    }
+
+}
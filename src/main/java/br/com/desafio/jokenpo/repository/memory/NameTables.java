@@ -0,0 +1,46 @@
+package br.com.desafio.jokenpo.repository.memory;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Player and move ids shared by the in-memory repositories of one application context. The
+ * repositories intern a name only when they accept it, and look every other name up.
+ */
+@Component
+public class NameTables {
+
+    private final NameTable players = new NameTable(NameTable::playerKey);
+    private final NameTable moves = new NameTable(NameTable::moveKey);
+
+    public NameTable players() {
+        return players;
+    }
+
+    public NameTable moves() {
+        return moves;
+    }
+
+    public MoveEntry resolve(MoveEntry entry) {
+        if (entry.isResolved()) {
+            return entry;
+        }
+        return new MoveEntry(entry, players.intern(entry.getPlayer()), moves.intern(entry.getMove()));
+    }
+
+    public List<MoveEntry> resolve(List<MoveEntry> entries) {
+        if (entries.stream().allMatch(MoveEntry::isResolved)) {
+            return entries;
+        }
+        List<MoveEntry> resolved = new ArrayList<>(entries.size());
+        for (MoveEntry entry : entries) {
+            resolved.add(resolve(entry));
+        }
+        return resolved;
+    }
+
+}
@@ -0,0 +1,69 @@
+package br.com.desafio.jokenpo.rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declaration of a game: its moves, in code order, and which move beats which. It is compiled
+ * into a {@link RuleSet} before use.
+ */
+public final class GameVariant {
+
+    public interface Dominance {
+        boolean beats(int move, int other);
+    }
+
+    public static final String CLASSIC = "classic";
+    public static final String RPS_7 = "rps-7";
+    public static final String CYCLIC = "cyclic";
+
+    private final String name;
+    private final List<String> moves;
+    private final Dominance dominance;
+
+    public GameVariant(String name, List<String> moves, Dominance dominance) {
+        this.name = name;
+        this.moves = Collections.unmodifiableList(new ArrayList<>(moves));
+        this.dominance = dominance;
+    }
+
+    /**
+     * Spock, Tesoura, Papel, Pedra e Lagarto: each move beats the moves an odd number of
+     * places after it.
+     */
+    public static GameVariant classic() {
+        List<String> moves = Arrays.asList("Spock", "Tesoura", "Papel", "Pedra", "Lagarto");
+        int n = moves.size();
+        return new GameVariant(CLASSIC, moves, (move, other) -> move != other && (other - move + n) % n % 2 == 1);
+    }
+
+    public static GameVariant rps7() {
+        return cyclic(RPS_7, Arrays.asList("Pedra", "Fogo", "Tesoura", "Esponja", "Papel", "Ar", "Água"));
+    }
+
+    /**
+     * Each move beats the {@code (n - 1) / 2} moves that follow it, wrapping around, which is
+     * how RPS-7 and RPS-101 are built. The number of moves must be odd.
+     */
+    public static GameVariant cyclic(String name, List<String> moves) {
+        int n = moves.size();
+        if (n % 2 == 0) {
+            throw new IllegalArgumentException("Uma variante cíclica precisa de um número ímpar de jogadas");
+        }
+        return new GameVariant(name, moves, (move, other) -> move != other && (other - move + n) % n <= n / 2);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    public Dominance getDominance() {
+        return dominance;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.desafio.jokenpo.rule;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the configured variant into the {@code ruleSet} bean, injected wherever rounds are
+ * resolved or counters are sized by move.
+ */
+@Configuration
+public class RuleConfig {
+
+    @Bean
+    public RuleSet ruleSet(Environment environment) {
+        return RuleSet.compile(variant(environment.getProperty("jokenpo.rules.variant", GameVariant.CLASSIC),
+                environment.getProperty("jokenpo.rules.moves", "")));
+    }
+
+    static GameVariant variant(String name, String moves) {
+        switch (name) {
+            case GameVariant.CLASSIC:
+                return GameVariant.classic();
+            case GameVariant.RPS_7:
+                return GameVariant.rps7();
+            case GameVariant.CYCLIC:
+                List<String> names = new ArrayList<>();
+                for (String move : moves.split(",")) {
+                    if (!move.trim().isEmpty()) {
+                        names.add(move.trim());
+                    }
+                }
+                return GameVariant.cyclic(GameVariant.CYCLIC, names);
+            default:
+                throw new IllegalArgumentException("A variante " + name + " não existe");
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package br.com.desafio.jokenpo.rule;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link GameVariant} compiled into dense dominance bitsets. Rows are {@link #words()} longs
+ * wide; the moves played in a round are given as a mask with bit {@code code} set for each code.
+ * The winner is the one move played that beats some move played and is beaten by none, found
+ * with O(moves / 64) word operations per distinct move played.
+ */
+public final class RuleSet {
+
+    public static final int NO_MOVE = -1;
+    public static final int MAX_MOVES = Byte.MAX_VALUE;
+    public static final RuleSet CLASSIC = compile(GameVariant.classic());
+
+    private static final int TABLE_MOVES = 12;
+
+    private final String name;
+    private final String[] moves;
+    private final Map<String, Integer> codes;
+    private final int words;
+    private final long[] beats;
+    private final long[] beatenBy;
+    private final byte[] outcomes;
+
+    private RuleSet(String name, String[] moves, Map<String, Integer> codes, long[] beats, long[] beatenBy) {
+        this.name = name;
+        this.moves = moves;
+        this.codes = codes;
+        this.words = (moves.length + 63) >>> 6;
+        this.beats = beats;
+        this.beatenBy = beatenBy;
+        if (moves.length <= TABLE_MOVES) {
+            outcomes = new byte[1 << moves.length];
+            for (int mask = 0; mask < outcomes.length; mask++) {
+                outcomes[mask] = (byte) resolve(new long[]{mask});
+            }
+        } else {
+            outcomes = null;
+        }
+    }
+
+    public static RuleSet compile(GameVariant variant) {
+        List<String> names = variant.getMoves();
+        int n = names.size();
+        if (n < 2 || n > MAX_MOVES) {
+            throw new IllegalArgumentException("Uma variante deve ter entre 2 e " + MAX_MOVES + " jogadas");
+        }
+        String[] moves = names.toArray(new String[0]);
+        Map<String, Integer> codes = new HashMap<>();
+        for (int code = 0; code < n; code++) {
+            if (codes.put(NameTable.moveKey(moves[code]), code) != null) {
+                throw new IllegalArgumentException("A jogada " + moves[code] + " está repetida");
+            }
+        }
+        int words = (n + 63) >>> 6;
+        long[] beats = new long[n * words];
+        long[] beatenBy = new long[n * words];
+        GameVariant.Dominance dominance = variant.getDominance();
+        for (int move = 0; move < n; move++) {
+            for (int other = 0; other < n; other++) {
+                if (!dominance.beats(move, other)) {
+                    continue;
+                }
+                if (move == other || dominance.beats(other, move)) {
+                    throw new IllegalArgumentException("As jogadas " + moves[move] + " e " + moves[other] + " vencem uma à outra");
+                }
+                beats[move * words + (other >>> 6)] |= 1L << other;
+                beatenBy[other * words + (move >>> 6)] |= 1L << move;
+            }
+        }
+        return new RuleSet(variant.getName(), moves, codes, beats, beatenBy);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int moveCount() {
+        return moves.length;
+    }
+
+    public String moveName(int code) {
+        return moves[code];
+    }
+
+    /**
+     * The code of the entry's move, looked up once and kept on the entry. An application context
+     * has a single rule set, so the cached code is never read under other rules.
+     */
+    public int moveCode(MoveEntry entry) {
+        int code = entry.getMoveCode();
+        if (code == MoveEntry.UNCODED) {
+            code = moveCode(entry.getMove());
+            entry.setMoveCode(code);
+        }
+        return code;
+    }
+
+    public int moveCode(String move) {
+        if (move == null) {
+            return NO_MOVE;
+        }
+        Integer code = codes.get(NameTable.moveKey(move));
+        return code == null ? NO_MOVE : code;
+    }
+
+    public boolean beats(int move, int other) {
+        return (beats[move * words + (other >>> 6)] & (1L << other)) != 0;
+    }
+
+    public int words() {
+        return words;
+    }
+
+    public long[] newMask() {
+        return new long[words];
+    }
+
+    /**
+     * Winner of a variant with at most 64 moves, whose mask fits in one word.
+     */
+    public int winner(long mask) {
+        if (outcomes != null) {
+            return outcomes[(int) (mask & (outcomes.length - 1))];
+        }
+        return resolve(new long[]{mask});
+    }
+
+    public int winner(long[] mask) {
+        if (outcomes != null) {
+            return outcomes[(int) (mask[0] & (outcomes.length - 1))];
+        }
+        return resolve(mask);
+    }
+
+    /**
+     * Lists the moves as "A, B e C".
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder(moves[0]);
+        for (int code = 1; code < moves.length; code++) {
+            description.append(code == moves.length - 1 ? " e " : ", ").append(moves[code]);
+        }
+        return description.toString();
+    }
+
+    private int resolve(long[] mask) {
+        for (int word = 0; word < words; word++) {
+            for (long played = mask[word]; played != 0; played &= played - 1) {
+                int move = (word << 6) + Long.numberOfTrailingZeros(played);
+                if (dominates(move, mask)) {
+                    return move;
+                }
+            }
+        }
+        return NO_MOVE;
+    }
+
+    private boolean dominates(int move, long[] mask) {
+        int row = move * words;
+        boolean beatsAny = false;
+        for (int word = 0; word < words; word++) {
+            if ((mask[word] & beatenBy[row + word]) != 0) {
+                return false;
+            }
+            beatsAny |= (mask[word] & beats[row + word]) != 0;
+        }
+        return beatsAny;
+    }
+
+}
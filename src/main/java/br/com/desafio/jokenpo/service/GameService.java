@@ -1,23 +1,50 @@
 package br.com.desafio.jokenpo.service;
 
+import br.com.desafio.jokenpo.engine.CommandEngine;
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.GameEvent;
+import br.com.desafio.jokenpo.entity.LeaderboardEntry;
 import br.com.desafio.jokenpo.entity.MoveEntry;
 import br.com.desafio.jokenpo.entity.Move;
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.entity.PlayRequest;
 import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.entity.WindowStats;
+import br.com.desafio.jokenpo.event.GameEvents;
+import br.com.desafio.jokenpo.eventlog.DomainEvent;
+import br.com.desafio.jokenpo.eventlog.EventLog;
 import br.com.desafio.jokenpo.exception.BadRequestException;
 import br.com.desafio.jokenpo.exception.DataConflictException;
 import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.metrics.GameMetrics;
 import br.com.desafio.jokenpo.repository.GameRepository;
 import br.com.desafio.jokenpo.repository.MoveEntryRepository;
 import br.com.desafio.jokenpo.repository.MoveRepository;
 import br.com.desafio.jokenpo.repository.PlayerRepository;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import br.com.desafio.jokenpo.stats.Leaderboard;
+import br.com.desafio.jokenpo.stats.PlayerStatsIndex;
+import br.com.desafio.jokenpo.stats.RecentActivity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
 public class GameService {
 
+    public static final String DEFAULT_ROOM = "default";
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 10000;
+    public static final int DEFAULT_ANALYTICS_MINUTES = 5;
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
     @Autowired
     private MoveRepository moveRepository;
 
@@ -30,129 +57,317 @@ public class GameService {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private PlayerStatsIndex playerStatsIndex;
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @Autowired
+    private RecentActivity recentActivity;
+
+    @Autowired(required = false)
+    private GameMetrics gameMetrics = GameMetrics.NOOP;
+
+    @Autowired(required = false)
+    private GameEvents gameEvents = GameEvents.NOOP;
+
+    @Autowired(required = false)
+    private CommandEngine commandEngine = CommandEngine.DIRECT;
+
+    @Autowired(required = false)
+    private EventLog eventLog = EventLog.NOOP;
+
+    @Autowired(required = false)
+    private Journal journal = Journal.NOOP;
+
     public void createPlayer(String player) throws DataConflictException {
+        commandEngine.execute(() -> {
+            addPlayer(player);
+            return null;
+        }, DataConflictException.class);
+    }
+
+    private void addPlayer(String player) throws DataConflictException {
         Optional<Player> verifyPlayer = verifyPlayer(player);
         if (verifyPlayer.isPresent()) {
             throw new DataConflictException("O jogador já está cadastrado!");
         }
-        playerRepository.addPlayer(new Player(player));
+        if (!playerRepository.addPlayer(new Player(player))) {
+            throw new DataConflictException("O jogador já está cadastrado!");
+        }
+        eventLog.append(DomainEvent.playerRegistered(player));
     }
 
     public List<Player> findPlayers() throws DataNotFoundException {
         return playerRepository.getPlayers().orElseThrow(() -> new DataNotFoundException("Não há jogadores cadastrados!"));
     }
 
+    public long playersVersion() {
+        return playerRepository.version();
+    }
+
     public Player findByPlayer(String player) throws DataNotFoundException {
         return verifyPlayer(player).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
     }
 
+    public PlayerStats findPlayerStats(String player) throws DataNotFoundException {
+        Optional<PlayerStats> stats = playerStatsIndex.findStats(player);
+        if (stats.isPresent()) {
+            return stats.get();
+        }
+        Player p = verifyPlayer(player).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
+        return PlayerStatsIndex.emptyStats(rules, p.getPlayer());
+    }
+
+    public List<LeaderboardEntry> findLeaderboard(Integer k, String by) throws BadRequestException {
+        int size = k == null ? DEFAULT_PAGE_SIZE : k;
+        if (size < 1 || size > leaderboard.capacity()) {
+            throw new BadRequestException("O k deve estar entre 1 e " + leaderboard.capacity() + "!");
+        }
+        Leaderboard.Criterion criterion;
+        if (by == null || by.equalsIgnoreCase("wins")) {
+            criterion = Leaderboard.Criterion.WINS;
+        } else if (by.equalsIgnoreCase("winRate")) {
+            criterion = Leaderboard.Criterion.WIN_RATE;
+        } else {
+            throw new BadRequestException("Você pode ordenar apenas por wins ou winRate");
+        }
+        return leaderboard.top(criterion, size);
+    }
+
     public void deletePlayer(String player) throws DataNotFoundException, DataConflictException {
+        commandEngine.execute(() -> {
+            removePlayer(player);
+            return null;
+        }, DataNotFoundException.class, DataConflictException.class);
+    }
+
+    private void removePlayer(String player) throws DataNotFoundException, DataConflictException {
         Player p = verifyPlayer(player).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
         if (moveEntryRepository.findEntryByPlayer(player)) {
             throw new DataConflictException("O jogador está registrado no jogo atual!");
         }
         playerRepository.deletePlayer(p);
+        eventLog.append(DomainEvent.playerDeleted(p.getPlayer()));
     }
 
     public void createMove(String move) throws DataConflictException, BadRequestException {
+        commandEngine.execute(() -> {
+            addMove(move);
+            return null;
+        }, DataConflictException.class, BadRequestException.class);
+    }
+
+    private void addMove(String move) throws DataConflictException, BadRequestException {
         Optional<Move> verifyMove = verifyMove(move);
         if (verifyMove.isPresent()) {
             throw new DataConflictException("A jogada já está cadastrada!");
         }
-        if (!move.equalsIgnoreCase("Spock") && !move.equalsIgnoreCase("Jogada Spock") &&
-                !move.equalsIgnoreCase("Tesoura") && !move.equalsIgnoreCase("Jogada Tesoura") &&
-                !move.equalsIgnoreCase("Papel") && !move.equalsIgnoreCase("Jogada Papel") &&
-                !move.equalsIgnoreCase("Pedra") && !move.equalsIgnoreCase("Jogada Pedra") &&
-                !move.equalsIgnoreCase("Lagarto") && !move.equalsIgnoreCase("Jogada Lagarto")) {
-            throw new BadRequestException("Você pode cadastrar apenas os movimentos Spock, Tesoura, Papel, Pedra e Lagarto");
+        if (rules.moveCode(move) == RuleSet.NO_MOVE) {
+            throw new BadRequestException("Você pode cadastrar apenas os movimentos " + rules.describe());
         }
-        moveRepository.addMove(new Move(move));
+        if (!moveRepository.addMove(new Move(move))) {
+            throw new DataConflictException("A jogada já está cadastrada!");
+        }
+        eventLog.append(DomainEvent.moveRegistered(move));
     }
 
     public List<Move> findMoves() throws DataNotFoundException {
         return moveRepository.getMoves().orElseThrow(() -> new DataNotFoundException("Não há jogadas cadastradas!"));
     }
 
+    public long movesVersion() {
+        return moveRepository.version();
+    }
+
     public Move findByMove(String move) throws DataNotFoundException {
         return verifyMove(move).orElseThrow(() -> new DataNotFoundException("A jogada não está cadastrada!"));
     }
 
     public void deleteMove(String move) throws DataNotFoundException, DataConflictException {
+        commandEngine.execute(() -> {
+            removeMove(move);
+            return null;
+        }, DataNotFoundException.class, DataConflictException.class);
+    }
+
+    private void removeMove(String move) throws DataNotFoundException, DataConflictException {
         Move m = verifyMove(move).orElseThrow(() -> new DataNotFoundException("A jogada não está cadastrada!"));
         if (moveEntryRepository.findEntryByMove(move)) {
             throw new DataConflictException("Esta jogada está registrada no jogo atual!");
         }
         moveRepository.deleteMove(m);
+        eventLog.append(DomainEvent.moveDeleted(m.getMove()));
     }
 
     public String insertMoveEntry(String entry) throws DataNotFoundException, BadRequestException, DataConflictException {
-        String[] tmpEntry = entry.split(" e ");
-        Optional<String> play = Arrays.stream(tmpEntry)
-                .filter(e -> e.toUpperCase().contains("Jogar".toUpperCase()))
-                .findFirst();
-        if (play.isPresent()) {
-            if (moveEntryRepository.countEntries() < 2) {
-                throw new BadRequestException("O jogo possui menos que dois jogadores!");
+        return insertMoveEntry(DEFAULT_ROOM, entry);
+    }
+
+    public String insertMoveEntry(String room, String entry) throws DataNotFoundException, BadRequestException, DataConflictException {
+        return insertMoveEntry(room, PlayRequestParser.parse(entry));
+    }
+
+    public String insertMoveEntry(String room, PlayRequest request) throws DataNotFoundException, BadRequestException,
+            DataConflictException {
+        return commandEngine.execute(() -> play(room, request),
+                DataNotFoundException.class, BadRequestException.class, DataConflictException.class);
+    }
+
+    private String play(String room, PlayRequest request) throws DataNotFoundException, BadRequestException,
+            DataConflictException {
+        if (request.isPlay()) {
+            // Room for closing the round and storing its game, so the entries are never taken and then lost
+            // to a full journal.
+            journal.reserve(2);
+            try {
+                return playRound(room);
+            } finally {
+                journal.release();
             }
-            boolean isSpock = verifyMoveOnEntries("Spock");
-            boolean isTesoura = verifyMoveOnEntries("Tesoura");
-            boolean isPapel = verifyMoveOnEntries("Papel");
-            boolean isPedra = verifyMoveOnEntries("Pedra");
-            boolean isLagarto = verifyMoveOnEntries("Lagarto");
-            String result;
-            if (isSpock && (isTesoura || isPedra) && !isPapel && !isLagarto) {
-                result = produceResult("Spock");
-            } else if (isTesoura && (isPapel || isLagarto) && !isSpock && !isPedra) {
-                result = produceResult("Tesoura");
-            } else if (isPapel && (isPedra || isSpock) && !isTesoura && !isLagarto) {
-                result = produceResult("Papel");
-            } else if (isPedra && (isLagarto || isTesoura) && !isSpock && !isPapel) {
-                result = produceResult("Pedra");
-            } else if (isLagarto && (isSpock || isPapel) && !isTesoura && !isPedra) {
-                result = produceResult("Lagarto");
-            } else {
-                result = "Resultado Empate";
+        }
+        String player = request.getPlayer();
+        String move = request.getMove();
+        if (request.getAction() != null || isBlank(player) || isBlank(move)) {
+            throw new BadRequestException("Jogada invalida");
+        }
+        boolean foundPlayer = playerRepository.findPlayer(player);
+        if (!foundPlayer) {
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        }
+        if (verifyPlayerOnEntries(room, player)) {
+            throw new DataConflictException("O jogador " + player + " já fez sua jogada!");
+        }
+        boolean foundMove = moveRepository.findMove(move);
+        if (!foundMove) {
+            throw new DataNotFoundException("A jogada não está cadastrada!");
+        }
+        MoveEntry moveEntry = new MoveEntry(player, move);
+        // Coded once on acceptance; the entry keeps it for the resolver and the listeners.
+        rules.moveCode(moveEntry);
+        if (!moveEntryRepository.addEntry(room, moveEntry)) {
+            throw new DataConflictException("O jogador " + player + " já fez sua jogada!");
+        }
+        eventLog.append(DomainEvent.entryPlayed(room, moveEntry));
+        gameEvents.publish(GameEvent.entry(room, moveEntry));
+        return "";
+    }
+
+    private String playRound(String room) throws BadRequestException {
+        // Checked and taken in one step, so a concurrent "Jogar" on the same round gets the same answer.
+        List<MoveEntry> entries = moveEntryRepository.takeEntries(room, 2)
+                .orElseThrow(() -> new BadRequestException("O jogo possui menos que dois jogadores!"));
+        int winner = OutcomeResolver.winner(rules, entries);
+        String result = OutcomeResolver.resolve(rules, entries, winner);
+        Integer gameId = gameRepository.addGame(entries);
+        gameMetrics.roundResolved(winner);
+        gameEvents.publish(GameEvent.result(room, gameId, result));
+        return result;
+    }
+
+    public List<String> insertRounds(List<List<String>> rounds) throws DataNotFoundException, BadRequestException,
+            DataConflictException {
+        return commandEngine.execute(() -> playRounds(rounds),
+                DataNotFoundException.class, BadRequestException.class, DataConflictException.class);
+    }
+
+    private List<String> playRounds(List<List<String>> rounds) throws DataNotFoundException, BadRequestException,
+            DataConflictException {
+        if (rounds.isEmpty() || rounds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " rodadas!");
+        }
+        List<List<MoveEntry>> games = new ArrayList<>(rounds.size());
+        List<String> results = new ArrayList<>(rounds.size());
+        int[] winners = new int[rounds.size()];
+        for (int i = 0; i < rounds.size(); i++) {
+            List<String> round = rounds.get(i);
+            if (round == null || round.size() < 2) {
+                throw new BadRequestException("O jogo possui menos que dois jogadores!");
             }
-            int lastElement = gameRepository.lastGame();
-            List<MoveEntry> entries = moveEntryRepository.getEntries().orElseThrow(() -> new DataNotFoundException("Não há um jogo ativo!"));
-            gameRepository.addGame(lastElement + 1, entries);
-            moveEntryRepository.clearEntries();
-            return result;
-        } else {
-            if (tmpEntry.length == 2) {
-                String player = tmpEntry[0];
-                String move = tmpEntry[1];
-                boolean foundPlayer = playerRepository.findPlayer(tmpEntry[0]);
-                if (!foundPlayer) {
-                    throw new DataNotFoundException("O jogador não está cadastrado!");
+            List<MoveEntry> entries = new ArrayList<>(round.size());
+            Set<String> players = new HashSet<>();
+            for (String entry : round) {
+                MoveEntry me = parseRoundEntry(entry);
+                if (!players.add(NameTable.playerKey(me.getPlayer()))) {
+                    throw new DataConflictException("O jogador " + me.getPlayer() + " já fez sua jogada!");
                 }
-                if (verifyPlayerOnEntries(player)) {
-                    throw new DataConflictException("O jogador " + player + " já fez sua jogada!");
-                }
-                boolean foundMove = moveRepository.findMove(tmpEntry[1]);
-                if (!foundMove) {
-                    throw new DataNotFoundException("A jogada não está cadastrada!");
-                }
-                moveEntryRepository.addEntry(new MoveEntry(player, move));
-                return "";
-            } else {
-                throw new BadRequestException("Jogada invalida");
+                entries.add(me);
             }
+            winners[i] = OutcomeResolver.winner(rules, entries);
+            results.add(OutcomeResolver.resolve(rules, entries, winners[i]));
+            games.add(entries);
+        }
+        int first = gameRepository.addGames(games);
+        for (int i = 0; i < winners.length; i++) {
+            gameMetrics.roundResolved(winners[i]);
+            gameEvents.publish(GameEvent.result(null, first + i, results.get(i)));
+        }
+        return results;
+    }
+
+    public List<WindowStats> findAnalytics(Integer minutes, Integer games) throws BadRequestException {
+        int window = minutes == null ? DEFAULT_ANALYTICS_MINUTES : minutes;
+        if (window < 1 || window > recentActivity.maxMinutes()) {
+            throw new BadRequestException("Os minutos devem estar entre 1 e " + recentActivity.maxMinutes() + "!");
+        }
+        int lastGames = games == null ? recentActivity.lastGames() : games;
+        if (lastGames < 1 || lastGames > recentActivity.lastGames()) {
+            throw new BadRequestException("Os jogos devem estar entre 1 e " + recentActivity.lastGames() + "!");
         }
+        return Arrays.asList(recentActivity.lastMinutes(window), recentActivity.lastGames(lastGames));
     }
 
     public Map<Integer, List<MoveEntry>> findGames() {
         return gameRepository.findGames();
     }
 
+    public NavigableMap<Integer, List<MoveEntry>> findGames(Integer after, Integer limit) throws BadRequestException {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + "!");
+        }
+        return gameRepository.findGames(after, pageSize);
+    }
+
+    public Stream<Game> streamGames(Integer after) {
+        return gameRepository.streamGames(after);
+    }
+
+    public long gamesVersion() {
+        return gameRepository.version();
+    }
+
     public List<MoveEntry> findGameById(Integer id) throws DataNotFoundException {
-        Map.Entry<Integer, List<MoveEntry>> game = verifyGame(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
-        return game.getValue();
+        return verifyGame(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
     }
 
     public void deleteGame(Integer id) throws DataNotFoundException {
-        Map.Entry<Integer, List<MoveEntry>> game = verifyGame(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
-        gameRepository.deleteGame(game.getKey());
+        commandEngine.execute(() -> {
+            removeGame(id);
+            return null;
+        }, DataNotFoundException.class);
+    }
+
+    private void removeGame(Integer id) throws DataNotFoundException {
+        verifyGame(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
+        gameRepository.deleteGame(id);
+    }
+
+    private MoveEntry parseRoundEntry(String entry) throws BadRequestException, DataNotFoundException {
+        PlayRequest request = PlayRequestParser.parse(entry);
+        if (request.isPlay()) {
+            throw new BadRequestException("Jogada invalida");
+        }
+        if (!playerRepository.findPlayer(request.getPlayer())) {
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        }
+        if (!moveRepository.findMove(request.getMove())) {
+            throw new DataNotFoundException("A jogada não está cadastrada!");
+        }
+        MoveEntry moveEntry = new MoveEntry(request.getPlayer(), request.getMove());
+        rules.moveCode(moveEntry);
+        return moveEntry;
     }
 
     private Optional<Player> verifyPlayer(String player) {
@@ -163,35 +378,16 @@ public class GameService {
         return moveRepository.getMoveByMove(move);
     }
 
-    private Optional<Map.Entry<Integer, List<MoveEntry>>> verifyGame(Integer id) {
+    private Optional<List<MoveEntry>> verifyGame(Integer id) {
         return gameRepository.findGameById(id);
     }
 
-    private boolean verifyPlayerOnEntries(String player) {
-        return moveEntryRepository.findPlayerOnEntries(player);
+    private boolean verifyPlayerOnEntries(String room, String player) {
+        return moveEntryRepository.findPlayerOnEntries(room, player);
     }
 
-    private boolean verifyMoveOnEntries(String move) {
-        return moveEntryRepository.findMoveOnEntries(move);
-    }
-
-    private String produceResult(String winnerMove) {
-        List<MoveEntry> winners = moveEntryRepository.getWinnerMove(winnerMove);
-        if (winners.size() == 1) {
-            return "Resultado " + winners.get(0).getPlayer() + " Vitória";
-        } else {
-            StringBuilder result = new StringBuilder("Resultado ");
-            for (MoveEntry winner : winners) {
-                result.append(winner.getPlayer());
-                if (winners.get(winners.size()-1).equals(winner)) {
-                    result.append(" ");
-                } else {
-                    result.append(" e ");
-                }
-            }
-            result.append("Vitória");
-            return result.toString();
-        }
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
 
 }
@@ -0,0 +1,68 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.rule.RuleSet;
+
+import java.util.List;
+
+/**
+ * Resolves rounds with the given {@link RuleSet}; the application's rules are the {@code ruleSet}
+ * bean compiled by {@link br.com.desafio.jokenpo.rule.RuleConfig}.
+ */
+public final class OutcomeResolver {
+
+    public static final String DRAW = "Resultado Empate";
+    public static final int NO_MOVE = RuleSet.NO_MOVE;
+
+    private OutcomeResolver() {
+    }
+
+    public static String resolve(RuleSet rules, List<MoveEntry> entries) {
+        return resolve(rules, entries, winner(rules, entries));
+    }
+
+    public static String resolve(RuleSet rules, List<MoveEntry> entries, int winner) {
+        if (winner == NO_MOVE) {
+            return DRAW;
+        }
+        return produceResult(rules, entries, winner);
+    }
+
+    public static int winner(RuleSet rules, List<MoveEntry> entries) {
+        if (rules.words() == 1) {
+            long mask = 0;
+            for (int i = 0, size = entries.size(); i < size; i++) {
+                int code = rules.moveCode(entries.get(i));
+                if (code != NO_MOVE) {
+                    mask |= 1L << code;
+                }
+            }
+            return rules.winner(mask);
+        }
+        long[] mask = rules.newMask();
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            int code = rules.moveCode(entries.get(i));
+            if (code != NO_MOVE) {
+                mask[code >>> 6] |= 1L << code;
+            }
+        }
+        return rules.winner(mask);
+    }
+
+    private static String produceResult(RuleSet rules, List<MoveEntry> entries, int winner) {
+        StringBuilder result = new StringBuilder("Resultado ");
+        boolean first = true;
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            MoveEntry entry = entries.get(i);
+            if (rules.moveCode(entry) == winner) {
+                if (!first) {
+                    result.append(" e ");
+                }
+                result.append(entry.getPlayer());
+                first = false;
+            }
+        }
+        return result.append(" Vitória").toString();
+    }
+
+}
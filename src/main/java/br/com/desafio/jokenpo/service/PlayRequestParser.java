@@ -0,0 +1,43 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.PlayRequest;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+
+/**
+ * Tokenizer for the legacy text protocol: {@code "<jogador> e <jogada>"} or any body containing
+ * {@code "Jogar"}. It scans the body in place and only copies out the player and the move;
+ * the move is taken after the last {@code " e "}, so player names may contain it.
+ */
+public final class PlayRequestParser {
+
+    private static final String SEPARATOR = " e ";
+
+    private PlayRequestParser() {
+    }
+
+    public static PlayRequest parse(String body) throws BadRequestException {
+        if (body == null) {
+            throw new BadRequestException("Jogada invalida");
+        }
+        if (containsPlay(body)) {
+            return PlayRequest.play();
+        }
+        int separator = body.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator + SEPARATOR.length() >= body.length()) {
+            throw new BadRequestException("Jogada invalida");
+        }
+        return PlayRequest.entry(body.substring(0, separator), body.substring(separator + SEPARATOR.length()));
+    }
+
+    private static boolean containsPlay(String body) {
+        int last = body.length() - PlayRequest.PLAY.length();
+        for (int i = 0; i <= last; i++) {
+            char c = body.charAt(i);
+            if ((c == 'j' || c == 'J') && body.regionMatches(true, i, PlayRequest.PLAY, 0, PlayRequest.PLAY.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
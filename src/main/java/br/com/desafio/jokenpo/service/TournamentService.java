@@ -0,0 +1,273 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.Tournament;
+import br.com.desafio.jokenpo.entity.TournamentJob;
+import br.com.desafio.jokenpo.entity.TournamentStanding;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulates tournaments with the same rules as {@link GameService}. Rounds are split into chunks
+ * on a fork/join pool and every worker thread counts into its own accumulator, merged at the end.
+ * Each chunk draws its seats and moves only from the seed and its first round, so the standings do
+ * not depend on how the pool splits or steals the work.
+ */
+@Service
+public class TournamentService {
+
+    public static final int MAX_PLAYERS = 100_000;
+    public static final long MAX_ROUNDS = 1_000_000_000L;
+    public static final int MAX_JOBS = 100;
+
+    static final int CHUNK_ROUNDS = 1 << 16;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TournamentService.class);
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Value("${jokenpo.tournament.max-running:4}")
+    private int maxRunning = 4;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final ConcurrentMap<Integer, TournamentJob> jobs = new ConcurrentHashMap<>();
+    private final ForkJoinPool pool = new ForkJoinPool();
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    public TournamentJob startTournament(Tournament tournament) throws BadRequestException {
+        byte[][] scripts = validate(tournament);
+        if (running.incrementAndGet() > maxRunning) {
+            running.decrementAndGet();
+            throw new BadRequestException("O limite de " + maxRunning + " torneios em andamento foi atingido, tente novamente mais tarde!");
+        }
+        TournamentJob job = new TournamentJob(sequence.getAndIncrement(), tournament.getRounds());
+        jobs.put(job.getId(), job);
+        jobs.keySet().removeIf(id -> id <= job.getId() - MAX_JOBS
+                && Optional.ofNullable(jobs.get(id)).map(j -> j.getStatus() != TournamentJob.Status.RUNNING).orElse(false));
+        try {
+            pool.execute(() -> run(job, tournament, scripts));
+        } catch (RuntimeException e) {
+            running.decrementAndGet();
+            throw e;
+        }
+        return job;
+    }
+
+    public TournamentJob findTournament(Integer id) throws DataNotFoundException {
+        TournamentJob job = jobs.get(id);
+        if (job == null) {
+            throw new DataNotFoundException("Este torneio não está cadastrado!");
+        }
+        return job;
+    }
+
+    void run(TournamentJob job, Tournament tournament, byte[][] scripts) {
+        List<TournamentStanding> standings = null;
+        String failure = null;
+        try {
+            Simulation simulation = new Simulation(job, tournament, scripts, rules);
+            simulation.invoke();
+            standings = simulation.standings();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao simular o torneio " + job.getId(), e);
+            failure = e.getMessage();
+        } finally {
+            // Released before the outcome is visible, so whoever sees the job finish can start the next one.
+            running.decrementAndGet();
+        }
+        if (standings != null) {
+            job.complete(standings);
+        } else {
+            job.fail(failure);
+        }
+    }
+
+    private byte[][] validate(Tournament tournament) throws BadRequestException {
+        if (tournament.getPlayers() < 2 || tournament.getPlayers() > MAX_PLAYERS) {
+            throw new BadRequestException("O torneio deve ter entre 2 e " + MAX_PLAYERS + " jogadores!");
+        }
+        if (tournament.getPlayersPerRound() < 2 || tournament.getPlayersPerRound() > tournament.getPlayers()) {
+            throw new BadRequestException("Cada rodada deve ter entre 2 e " + tournament.getPlayers() + " jogadores!");
+        }
+        if (tournament.getRounds() < 1 || tournament.getRounds() > MAX_ROUNDS) {
+            throw new BadRequestException("O torneio deve ter entre 1 e " + MAX_ROUNDS + " rodadas!");
+        }
+        List<List<String>> scripts = tournament.getScripts();
+        if (scripts == null) {
+            return null;
+        }
+        if (scripts.size() > tournament.getPlayers()) {
+            throw new BadRequestException("Há mais roteiros do que jogadores!");
+        }
+        byte[][] codes = new byte[scripts.size()][];
+        for (int player = 0; player < scripts.size(); player++) {
+            List<String> script = scripts.get(player);
+            if (script == null || script.isEmpty()) {
+                continue;
+            }
+            codes[player] = new byte[script.size()];
+            for (int i = 0; i < script.size(); i++) {
+                int code = rules.moveCode(script.get(i));
+                if (code == RuleSet.NO_MOVE) {
+                    throw new BadRequestException("Jogada invalida no roteiro do " + playerName(player));
+                }
+                codes[player][i] = (byte) code;
+            }
+        }
+        return codes;
+    }
+
+    private static String playerName(int player) {
+        return "Jogador " + (player + 1);
+    }
+
+    private static final class Accumulator {
+
+        final long[] wins;
+        final long[] draws;
+        final long[] losses;
+
+        Accumulator(int players) {
+            wins = new long[players];
+            draws = new long[players];
+            losses = new long[players];
+        }
+
+    }
+
+    private static final class Simulation {
+
+        private final TournamentJob job;
+        private final int players;
+        private final int playersPerRound;
+        private final long seed;
+        private final byte[][] scripts;
+        private final RuleSet rules;
+        private final ConcurrentMap<Thread, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+        Simulation(TournamentJob job, Tournament tournament, byte[][] scripts, RuleSet rules) {
+            this.job = job;
+            this.players = tournament.getPlayers();
+            this.playersPerRound = tournament.getPlayersPerRound();
+            this.seed = tournament.getSeed();
+            this.scripts = scripts;
+            this.rules = rules;
+        }
+
+        void invoke() {
+            new Chunk(this, 0, job.getTotalRounds()).invoke();
+        }
+
+        void play(long from, long to) {
+            Accumulator accumulator = accumulators.computeIfAbsent(Thread.currentThread(), t -> new Accumulator(players));
+            // Every chunk starts from the same seating; the shuffles below only depend on (seed, from).
+            int[] seats = new int[players];
+            for (int i = 0; i < players; i++) {
+                seats[i] = i;
+            }
+            int[] codes = new int[playersPerRound];
+            long[] mask = rules.newMask();
+            SplittableRandom random = new SplittableRandom(seed ^ (from * 0x9E3779B97F4A7C15L));
+            for (long round = from; round < to; round++) {
+                Arrays.fill(mask, 0);
+                for (int seat = 0; seat < playersPerRound; seat++) {
+                    int pick = seat + random.nextInt(players - seat);
+                    int player = seats[pick];
+                    seats[pick] = seats[seat];
+                    seats[seat] = player;
+                    codes[seat] = move(player, round, random, rules);
+                    mask[codes[seat] >>> 6] |= 1L << codes[seat];
+                }
+                int winner = rules.winner(mask);
+                for (int seat = 0; seat < playersPerRound; seat++) {
+                    int player = seats[seat];
+                    if (winner == RuleSet.NO_MOVE) {
+                        accumulator.draws[player]++;
+                    } else if (codes[seat] == winner) {
+                        accumulator.wins[player]++;
+                    } else {
+                        accumulator.losses[player]++;
+                    }
+                }
+            }
+            job.roundsCompleted(to - from);
+        }
+
+        private int move(int player, long round, SplittableRandom random, RuleSet rules) {
+            byte[] script = scripts != null && player < scripts.length ? scripts[player] : null;
+            if (script == null) {
+                return random.nextInt(rules.moveCount());
+            }
+            return script[(int) (round % script.length)];
+        }
+
+        List<TournamentStanding> standings() {
+            long[] wins = new long[players];
+            long[] draws = new long[players];
+            long[] losses = new long[players];
+            for (Accumulator accumulator : accumulators.values()) {
+                for (int player = 0; player < players; player++) {
+                    wins[player] += accumulator.wins[player];
+                    draws[player] += accumulator.draws[player];
+                    losses[player] += accumulator.losses[player];
+                }
+            }
+            List<TournamentStanding> standings = new ArrayList<>(players);
+            for (int player = 0; player < players; player++) {
+                standings.add(new TournamentStanding(playerName(player), wins[player], draws[player], losses[player]));
+            }
+            standings.sort(Comparator.comparingLong(TournamentStanding::getWins).reversed());
+            return standings;
+        }
+
+    }
+
+    private static final class Chunk extends RecursiveAction {
+
+        private final Simulation simulation;
+        private final long from;
+        private final long to;
+
+        Chunk(Simulation simulation, long from, long to) {
+            this.simulation = simulation;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_ROUNDS) {
+                simulation.play(from, to);
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new Chunk(simulation, from, middle), new Chunk(simulation, middle, to));
+        }
+
+    }
+
+}
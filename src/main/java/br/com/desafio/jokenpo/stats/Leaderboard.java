@@ -0,0 +1,147 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.LeaderboardEntry;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the top players by wins and by win rate in skip lists updated on every game. Only the
+ * best {@code capacity} players of each ranking are kept; a player left out re-enters when a
+ * new game lifts them above the last ranked one. Updates of the same player are serialized by
+ * a striped lock, while the rankings themselves are lock-free.
+ */
+@Component
+@Order(2)
+public class Leaderboard implements GameHistoryListener {
+
+    public enum Criterion {
+        WINS, WIN_RATE
+    }
+
+    private static final int STRIPES = 64;
+
+    @Value("${jokenpo.leaderboard.capacity:1000}")
+    private int capacity = 1000;
+
+    @Value("${jokenpo.leaderboard.min-games:10}")
+    private long minGames = 10;
+
+    @Autowired
+    private PlayerStatsIndex playerStatsIndex;
+
+    private final Ranking byWins = new Ranking();
+    private final Ranking byWinRate = new Ranking();
+    private final Object[] stripes = new Object[STRIPES];
+
+    public Leaderboard() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public void gameAdded(Integer id, List<MoveEntry> entries) {
+        update(entries);
+    }
+
+    @Override
+    public void gameDeleted(Integer id, List<MoveEntry> entries) {
+        update(entries);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public List<LeaderboardEntry> top(Criterion criterion, int k) {
+        Ranking ranking = criterion == Criterion.WINS ? byWins : byWinRate;
+        List<LeaderboardEntry> top = new ArrayList<>(Math.min(k, capacity));
+        Iterator<Rank> iterator = ranking.ranks.iterator();
+        while (top.size() < k && iterator.hasNext()) {
+            String player = iterator.next().player;
+            top.add(new LeaderboardEntry(top.size() + 1, playerStatsIndex.name(player),
+                    playerStatsIndex.wins(player), playerStatsIndex.games(player)));
+        }
+        return top;
+    }
+
+    private void update(List<MoveEntry> entries) {
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            String player = NameTable.playerKey(entries.get(i).getPlayer());
+            synchronized (stripes[player.hashCode() & (STRIPES - 1)]) {
+                long wins = playerStatsIndex.wins(player);
+                long games = playerStatsIndex.games(player);
+                byWins.update(player, wins > 0 ? wins : -1);
+                byWinRate.update(player, games >= minGames ? (double) wins / games : -1);
+            }
+        }
+    }
+
+    private static final class Rank {
+
+        static final Comparator<Rank> ORDER = Comparator.comparingDouble((Rank r) -> r.score).reversed()
+                .thenComparing(r -> r.player);
+        // Sorts after every real key at the lowest score.
+        static final Rank LAST = new Rank("\uffff", Double.NEGATIVE_INFINITY);
+
+        final String player;
+        final double score;
+
+        Rank(String player, double score) {
+            this.player = player;
+            this.score = score;
+        }
+
+    }
+
+    private final class Ranking {
+
+        private final ConcurrentSkipListSet<Rank> ranks = new ConcurrentSkipListSet<>(Rank.ORDER);
+        private final ConcurrentMap<String, Rank> current = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void update(String player, double score) {
+            Rank previous = current.remove(player);
+            if (previous != null && ranks.remove(previous)) {
+                size.decrementAndGet();
+            }
+            if (score < 0) {
+                return;
+            }
+            Rank rank = new Rank(player, score);
+            if (size.get() >= capacity) {
+                Rank last = ranks.floor(Rank.LAST);
+                if (last != null && Rank.ORDER.compare(rank, last) >= 0) {
+                    return;
+                }
+            }
+            current.put(player, rank);
+            ranks.add(rank);
+            size.incrementAndGet();
+            while (size.get() > capacity) {
+                Rank evicted = ranks.pollLast();
+                if (evicted == null) {
+                    break;
+                }
+                current.remove(evicted.player, evicted);
+                size.decrementAndGet();
+            }
+        }
+
+    }
+
+}
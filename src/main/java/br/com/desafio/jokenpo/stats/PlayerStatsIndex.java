@@ -0,0 +1,126 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.NameTable;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import br.com.desafio.jokenpo.service.OutcomeResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player counters kept up to date from the game history, so a player's statistics are read
+ * without walking the stored games.
+ */
+@Component
+@Order(1)
+public class PlayerStatsIndex implements GameHistoryListener {
+
+    // Keyed by the normalized name; the counters keep the spelling of the first game seen for display.
+    private final ConcurrentMap<String, Counters> players = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    public PlayerStatsIndex() {
+    }
+
+    public PlayerStatsIndex(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public void gameAdded(Integer id, List<MoveEntry> entries) {
+        record(entries, 1);
+    }
+
+    @Override
+    public void gameDeleted(Integer id, List<MoveEntry> entries) {
+        record(entries, -1);
+    }
+
+    public Optional<PlayerStats> findStats(String player) {
+        Counters counters = players.get(NameTable.playerKey(player));
+        if (counters == null) {
+            return Optional.empty();
+        }
+        Map<String, Long> moves = new LinkedHashMap<>();
+        for (int code = 0; code < rules.moveCount(); code++) {
+            moves.put(rules.moveName(code), counters.moves[code].sum());
+        }
+        return Optional.of(new PlayerStats(counters.name, counters.wins.sum(), counters.losses.sum(),
+                counters.draws.sum(), moves));
+    }
+
+    public String name(String playerKey) {
+        Counters counters = players.get(playerKey);
+        return counters == null ? null : counters.name;
+    }
+
+    public long wins(String playerKey) {
+        Counters counters = players.get(playerKey);
+        return counters == null ? 0 : counters.wins.sum();
+    }
+
+    public long games(String playerKey) {
+        Counters counters = players.get(playerKey);
+        return counters == null ? 0 : counters.wins.sum() + counters.losses.sum() + counters.draws.sum();
+    }
+
+    public static PlayerStats emptyStats(RuleSet rules, String player) {
+        Map<String, Long> moves = new LinkedHashMap<>();
+        for (int code = 0; code < rules.moveCount(); code++) {
+            moves.put(rules.moveName(code), 0L);
+        }
+        return new PlayerStats(player, 0, 0, 0, moves);
+    }
+
+    private void record(List<MoveEntry> entries, int delta) {
+        int winner = OutcomeResolver.winner(rules, entries);
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            MoveEntry entry = entries.get(i);
+            int code = rules.moveCode(entry);
+            Counters counters = players.computeIfAbsent(NameTable.playerKey(entry.getPlayer()),
+                    p -> new Counters(entry.getPlayer(), rules.moveCount()));
+            if (winner == RuleSet.NO_MOVE) {
+                counters.draws.add(delta);
+            } else if (code == winner) {
+                counters.wins.add(delta);
+            } else {
+                counters.losses.add(delta);
+            }
+            if (code != RuleSet.NO_MOVE) {
+                counters.moves[code].add(delta);
+            }
+        }
+    }
+
+    private static final class Counters {
+
+        final String name;
+        final LongAdder wins = new LongAdder();
+        final LongAdder losses = new LongAdder();
+        final LongAdder draws = new LongAdder();
+        final LongAdder[] moves;
+
+        Counters(String name, int moveCount) {
+            this.name = name;
+            moves = new LongAdder[moveCount];
+            for (int code = 0; code < moves.length; code++) {
+                moves[code] = new LongAdder();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.WindowStats;
+import br.com.desafio.jokenpo.repository.GameHistoryListener;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import br.com.desafio.jokenpo.service.OutcomeResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Windowed counts of the rounds played since startup: one-second buckets in a ring covering
+ * the last {@code maxMinutes}, and a ring with the outcome and move counts of the last
+ * {@code lastGames} games. Recording is O(moves) and memory is fixed by those two sizes. A
+ * deleted game is taken back out of both while it is still among the last {@code lastGames}.
+ */
+@Component
+@Order(3)
+public class RecentActivity implements GameHistoryListener {
+
+    private static final int ROUNDS = 0;
+    private static final int FIRST_MOVE = 1;
+    private static final String DRAW_NAME = "Empate";
+
+    @Autowired
+    private RuleSet rules = RuleSet.CLASSIC;
+
+    @Value("${jokenpo.analytics.max-minutes:60}")
+    private int maxMinutes = 60;
+
+    @Value("${jokenpo.analytics.last-games:10000}")
+    private int lastGames = 10000;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private int moveCount;
+    private int draw;
+    private int counters;
+    private Bucket[] buckets;
+    private AtomicIntegerArray outcomes;
+    private AtomicIntegerArray moves;
+    private AtomicIntegerArray ids;
+    private AtomicLongArray seconds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        moveCount = rules.moveCount();
+        draw = FIRST_MOVE + moveCount;
+        counters = draw + 1 + moveCount;
+        buckets = new Bucket[maxMinutes * 60];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(counters);
+        }
+        outcomes = new AtomicIntegerArray(lastGames);
+        moves = new AtomicIntegerArray(lastGames * moveCount);
+        ids = new AtomicIntegerArray(lastGames);
+        seconds = new AtomicLongArray(lastGames);
+    }
+
+    @Override
+    public void gameAdded(Integer id, List<MoveEntry> entries) {
+        int winner = OutcomeResolver.winner(rules, entries);
+        int[] played = played(entries);
+        long second = clock.getAsLong() / 1000;
+        Bucket bucket = buckets[(int) (second % buckets.length)];
+        synchronized (bucket) {
+            if (bucket.second < second) {
+                bucket.roll(second);
+            }
+            // A bucket already rolled past this second has left the window.
+            if (bucket.second == second) {
+                record(bucket, winner, played, 1);
+            }
+        }
+        int slot = (int) (sequence.getAndIncrement() % lastGames);
+        // The outcome is cleared first and written last, so readers skip a slot being rewritten.
+        outcomes.set(slot, 0);
+        ids.set(slot, id);
+        seconds.set(slot, second);
+        for (int code = 0; code < moveCount; code++) {
+            moves.set(slot * moveCount + code, played[code]);
+        }
+        outcomes.set(slot, winner + 2);
+    }
+
+    @Override
+    public void gameRestored(Integer id, List<MoveEntry> entries) {
+    }
+
+    @Override
+    public void gameDeleted(Integer id, List<MoveEntry> entries) {
+        long head = sequence.get();
+        for (long i = head - 1; i >= Math.max(0, head - lastGames); i--) {
+            int slot = (int) (i % lastGames);
+            int outcome = outcomes.get(slot);
+            if (outcome == 0 || ids.get(slot) != id) {
+                continue;
+            }
+            long second = seconds.get(slot);
+            if (!outcomes.compareAndSet(slot, outcome, 0)) {
+                return;
+            }
+            Bucket bucket = buckets[(int) (second % buckets.length)];
+            synchronized (bucket) {
+                if (bucket.second == second) {
+                    record(bucket, outcome - 2, played(entries), -1);
+                }
+            }
+            return;
+        }
+    }
+
+    public int maxMinutes() {
+        return maxMinutes;
+    }
+
+    public int lastGames() {
+        return lastGames;
+    }
+
+    public WindowStats lastMinutes(int minutes) {
+        long[] counts = new long[counters];
+        long now = clock.getAsLong() / 1000;
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                long second = bucket.second;
+                if (second > now - minutes * 60L && second <= now) {
+                    for (int i = 0; i < counters; i++) {
+                        counts[i] += bucket.counts[i];
+                    }
+                }
+            }
+        }
+        return stats(minutes + " min", counts);
+    }
+
+    public WindowStats lastGames(int n) {
+        long[] counts = new long[counters];
+        long head = sequence.get();
+        for (long i = Math.max(0, head - n); i < head; i++) {
+            int slot = (int) (i % lastGames);
+            int outcome = outcomes.get(slot);
+            if (outcome == 0) {
+                continue;
+            }
+            counts[ROUNDS]++;
+            counts[draw + outcome - 1]++;
+            for (int code = 0; code < moveCount; code++) {
+                counts[FIRST_MOVE + code] += moves.get(slot * moveCount + code);
+            }
+        }
+        return stats(n + " jogos", counts);
+    }
+
+    private int[] played(List<MoveEntry> entries) {
+        int[] played = new int[moveCount];
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            int code = rules.moveCode(entries.get(i));
+            if (code != RuleSet.NO_MOVE) {
+                played[code]++;
+            }
+        }
+        return played;
+    }
+
+    private void record(Bucket bucket, int winner, int[] played, int delta) {
+        bucket.counts[ROUNDS] += delta;
+        bucket.counts[draw + winner + 1] += delta;
+        for (int code = 0; code < moveCount; code++) {
+            bucket.counts[FIRST_MOVE + code] += delta * played[code];
+        }
+    }
+
+    private WindowStats stats(String window, long[] counts) {
+        Map<String, Long> moveCounts = new LinkedHashMap<>();
+        Map<String, Long> outcomeCounts = new LinkedHashMap<>();
+        outcomeCounts.put(DRAW_NAME, counts[draw]);
+        for (int code = 0; code < moveCount; code++) {
+            moveCounts.put(rules.moveName(code), counts[FIRST_MOVE + code]);
+            outcomeCounts.put(rules.moveName(code), counts[draw + 1 + code]);
+        }
+        return new WindowStats(window, counts[ROUNDS], moveCounts, outcomeCounts, counts[draw]);
+    }
+
+    // Guarded by its own monitor: the second is checked, rolled and counted in one step.
+    private static final class Bucket {
+
+        long second = -1;
+        final long[] counts;
+
+        Bucket(int counters) {
+            counts = new long[counters];
+        }
+
+        void roll(long next) {
+            Arrays.fill(counts, 0);
+            second = next;
+        }
+
+    }
+
+}
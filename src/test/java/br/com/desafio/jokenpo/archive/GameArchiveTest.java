@@ -0,0 +1,124 @@
+package br.com.desafio.jokenpo.archive;
+
+import br.com.desafio.jokenpo.entity.Game;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.journal.Journal;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class GameArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @DisplayName("Testando que os jogos arquivados sobrevivem à reabertura do arquivo")
+    @Test
+    void whenArchiveIsReopenedThenGamesAreKept() throws Exception {
+        List<MoveEntry> first = Arrays.asList(new MoveEntry("Jogador 1", "Jogada Pedra"), new MoveEntry("Jogador 2", "Jogada Papel"));
+        List<MoveEntry> second = Arrays.asList(new MoveEntry("Jogador 2", "Jogada Spock"), new MoveEntry("Jogador 3", "Jogada Pedra"));
+        GameArchive archive = open();
+        archive.append(3, first);
+        archive.append(7, second);
+        archive.append(9, first);
+        assertTrue(archive.delete(9));
+        archive.close();
+
+        GameArchive reopened = open();
+
+        assertEquals(first, reopened.findGame(3).orElseThrow());
+        assertEquals(second, reopened.findGame(7).orElseThrow());
+        assertFalse(reopened.findGame(5).isPresent());
+        assertFalse(reopened.findGame(9).isPresent());
+        assertEquals(2L, reopened.countGames());
+        assertEquals(7, (int) reopened.higher(3).getId());
+        assertNull(reopened.higher(7));
+        assertThrows(IllegalArgumentException.class, () -> reopened.append(7, first));
+        reopened.close();
+    }
+
+    @DisplayName("Testando a leitura de jogos quentes e arquivados em ordem de id")
+    @Test
+    void whenColdGamesAreArchivedThenTheRepositoryMergesBothTiers() throws Exception {
+        GameArchive archive = open();
+        GameRepository gameRepository = new InMemoryGameRepository();
+        setField(gameRepository, "archive", archive);
+        for (int i = 0; i < 10; i++) {
+            gameRepository.addGame(Arrays.asList(new MoveEntry("Jogador " + i, "Jogada Pedra"), new MoveEntry("Jogador", "Jogada Papel")));
+        }
+
+        assertEquals(6, gameRepository.archiveColdGames(4, 100));
+        gameRepository.deleteGame(2);
+        gameRepository.deleteGame(8);
+
+        assertEquals(8, (int) gameRepository.countGames());
+        assertEquals("Jogador 1", gameRepository.findGameById(1).orElseThrow().get(0).getPlayer());
+        assertFalse(gameRepository.findGameById(2).isPresent());
+        assertEquals(Arrays.asList(0, 1, 3, 4, 5, 6, 7, 9),
+                gameRepository.streamGames(null).map(Game::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(5, 6, 7), Arrays.asList(gameRepository.findGames(4, 3).keySet().toArray()));
+        archive.close();
+    }
+
+    @DisplayName("Testando que um jogo com id menor gravado depois de um maior não trava o arquivamento")
+    @Test
+    void whenALowerIdIsStillBeingAddedThenArchivingWaitsForIt() throws Exception {
+        GameArchive archive = open();
+        GameRepository gameRepository = new InMemoryGameRepository();
+        setField(gameRepository, "archive", archive);
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        setField(gameRepository, "journal", (Journal) record -> {
+            if (record.getGameId() == 0) {
+                reserved.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        List<MoveEntry> entries = Arrays.asList(new MoveEntry("Jogador 1", "Jogada Pedra"), new MoveEntry("Jogador 2", "Jogada Papel"));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Integer> late = executor.submit(() -> gameRepository.addGame(entries));
+        reserved.await();
+        for (int i = 0; i < 5; i++) {
+            gameRepository.addGame(entries);
+        }
+
+        Future<Integer> archived = executor.submit(() -> gameRepository.archiveColdGames(0, 100));
+        assertThrows(TimeoutException.class, () -> archived.get(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+
+        assertEquals(0, (int) late.get(5, TimeUnit.SECONDS));
+        assertEquals(6, (int) archived.get(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5),
+                gameRepository.streamGames(null).map(Game::getId).collect(Collectors.toList()));
+        executor.shutdown();
+        archive.close();
+    }
+
+    private GameArchive open() throws Exception {
+        GameArchive archive = new GameArchive();
+        setField(archive, "dir", dir.toString());
+        archive.open();
+        return archive;
+    }
+
+}
@@ -1,33 +1,44 @@
 package br.com.desafio.jokenpo.controller;
 
+import br.com.desafio.jokenpo.cache.ResponseCache;
+import br.com.desafio.jokenpo.entity.Game;
 import br.com.desafio.jokenpo.entity.Move;
 import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.PlayRequest;
 import br.com.desafio.jokenpo.entity.Player;
 import br.com.desafio.jokenpo.exception.BadRequestException;
 import br.com.desafio.jokenpo.exception.DataConflictException;
 import br.com.desafio.jokenpo.exception.DataNotFoundException;
 import br.com.desafio.jokenpo.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.hamcrest.core.Is.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 @ExtendWith(MockitoExtension.class)
 public class GameControllerTest {
@@ -35,17 +46,25 @@ public class GameControllerTest {
     private static final String API_URL_PATH_PLAYER = "/api/v1/jokenpo/player";
     private static final String API_URL_PATH_MOVE = "/api/v1/jokenpo/move";
     private static final String API_URL_PATH_PLAY = "/api/v1/jokenpo/play";
+    private static final String API_URL_PATH_BATCH_PLAY = "/api/v1/jokenpo/batch/play";
 
     private MockMvc mockMvc;
 
     @Mock
     private GameService gameService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private ResponseCache responseCache = new ResponseCache();
+
     @InjectMocks
     private GameController gameController;
 
     @BeforeEach
     void setUp() {
+        setField(responseCache, "objectMapper", objectMapper);
         mockMvc = MockMvcBuilders.standaloneSetup(gameController)
                 .setViewResolvers((s, locale) -> new MappingJackson2JsonView())
                 .build();
@@ -88,6 +107,27 @@ public class GameControllerTest {
                 .andExpect(jsonPath("$[0].player", is(player.getPlayer())));
     }
 
+    @DisplayName("Testando a busca de jogadores com o ETag da última resposta")
+    @Test
+    void whenGETListWithCurrentETagIsCalledThenNotModifiedStatusIsReturned() throws Exception {
+        when(gameService.findPlayers()).thenReturn(Collections.singletonList(new Player("Jogador 1")));
+
+        String etag = mockMvc.perform(get(API_URL_PATH_PLAYER))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(API_URL_PATH_PLAYER).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(gameService.playersVersion()).thenReturn(1L);
+        when(gameService.findPlayers()).thenReturn(Arrays.asList(new Player("Jogador 1"), new Player("Jogador 2")));
+
+        mockMvc.perform(get(API_URL_PATH_PLAYER).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].player", is("Jogador 2")));
+        verify(gameService, times(2)).findPlayers();
+    }
+
     @DisplayName("Testando a busca de jogadores retornando uma lista vazia")
     @Test
     void whenGETListWithoutPlayersIsCalledThenOkStatusIsReturned() throws Exception {
@@ -275,6 +315,52 @@ public class GameControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("Testando a inserção de uma entrada de jogo em JSON")
+    @Test
+    void whenPOSTPlayWithJsonIsCalledThenAMoveEntryIsCreated() throws Exception {
+
+        when(gameService.insertMoveEntry(eq(GameService.DEFAULT_ROOM), any(PlayRequest.class))).thenReturn("");
+
+        mockMvc.perform(post(API_URL_PATH_PLAY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"player\": \"Jogador 1\", \"move\": \"Jogada Pedra\"}"))
+                .andExpect(status().isOk());
+
+        verify(gameService).insertMoveEntry(eq(GameService.DEFAULT_ROOM), argThat((PlayRequest r) ->
+                "Jogador 1".equals(r.getPlayer()) && "Jogada Pedra".equals(r.getMove()) && !r.isPlay()));
+    }
+
+    @DisplayName("Testando a inserção de uma entrada de jogo em texto enviada como JSON")
+    @Test
+    void whenPOSTPlayWithTextLabeledAsJsonIsCalledThenTheTextFormatIsUsed() throws Exception {
+
+        when(gameService.insertMoveEntry(GameService.DEFAULT_ROOM, "Jogador 1 e Jogada Pedra")).thenReturn("");
+        when(gameService.insertMoveEntry(GameService.DEFAULT_ROOM, "Jogar")).thenReturn("Resultado Jogador 1 Vitória");
+
+        mockMvc.perform(post(API_URL_PATH_PLAY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("Jogador 1 e Jogada Pedra"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post(API_URL_PATH_PLAY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("\"Jogar\""))
+                .andExpect(status().isOk());
+
+        verify(gameService, never()).insertMoveEntry(anyString(), any(PlayRequest.class));
+    }
+
+    @DisplayName("Testando uma entrada em JSON malformado")
+    @Test
+    void whenPOSTPlayWithMalformedJsonIsCalledThenAnErrorIsReturned() throws Exception {
+
+        mockMvc.perform(post(API_URL_PATH_PLAY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"player\": "))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(gameService);
+    }
+
     @DisplayName("Testando uma entrada invalida")
     @Test
     void whenPOSTPlayWithInvalidMoveEntryThenAnErrorIsReturned() throws Exception {
@@ -357,6 +443,30 @@ public class GameControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @DisplayName("Testando a inserção de uma entrada de jogo em uma sala")
+    @Test
+    void whenPOSTPlayWithRoomIsCalledThenAMoveEntryIsCreatedOnTheRoom() throws Exception {
+
+        when(gameService.insertMoveEntry("sala1", "Jogador 1 e Jogada Pedra")).thenReturn("");
+
+        mockMvc.perform(post(API_URL_PATH_PLAY + "/sala1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("Jogador 1 e Jogada Pedra"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("Testando uma entrada Jogar em uma sala com apenas 1 jogador participando")
+    @Test
+    void whenPOSTPlayWithRoomAndOnePlayerThenAnErrorIsReturned() throws Exception {
+
+        doThrow(BadRequestException.class).when(gameService).insertMoveEntry("sala1", "Jogar");
+
+        mockMvc.perform(post(API_URL_PATH_PLAY + "/sala1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("Jogar"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("Testando a busca de jogos")
     @Test
     void whenGETListWithGamesIsCalledThenOkStatusIsReturned() throws Exception {
@@ -387,6 +497,51 @@ public class GameControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("Testando a busca paginada de jogos")
+    @Test
+    void whenGETListWithCursorIsCalledThenOkStatusIsReturned() throws Exception {
+        NavigableMap<Integer, List<MoveEntry>> page = new TreeMap<>();
+        page.put(6, Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra")));
+        page.put(7, Collections.singletonList(new MoveEntry("Jogador 2", "Jogada Papel")));
+
+        when(gameService.findGames(5, 2)).thenReturn(page);
+
+        mockMvc.perform(get(API_URL_PATH_PLAY + "?after=5&limit=2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.6[0].player", is("Jogador 1")))
+                .andExpect(jsonPath("$.7[0].player", is("Jogador 2")));
+    }
+
+    @DisplayName("Testando a busca paginada de jogos com limite invalido")
+    @Test
+    void whenGETListWithInvalidLimitIsCalledThenBadRequestStatusIsReturned() throws Exception {
+        when(gameService.findGames(null, 0)).thenThrow(BadRequestException.class);
+
+        mockMvc.perform(get(API_URL_PATH_PLAY + "?limit=0")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Testando a busca de jogos em NDJSON")
+    @Test
+    void whenGETListAsNdjsonIsCalledThenGamesAreStreamedOnePerLine() throws Exception {
+        Game first = new Game(0, Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra")));
+        Game second = new Game(1, Collections.singletonList(new MoveEntry("Jogador 2", "Jogada Papel")));
+
+        when(gameService.streamGames(null)).thenReturn(Stream.of(first, second));
+
+        MvcResult result = mockMvc.perform(get(API_URL_PATH_PLAY)
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(objectMapper.writeValueAsString(first) + "\n"
+                        + objectMapper.writeValueAsString(second) + "\n"));
+    }
+
     @DisplayName("Testando a busca de jogo por id")
     @Test
     void whenGETIsCalledWithGameIdThenOkStatusIsReturned() throws Exception {
@@ -436,4 +591,32 @@ public class GameControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @DisplayName("Testando a realização de várias rodadas em lote")
+    @Test
+    void whenPOSTPlayBatchIsCalledThenTheResultsAreReturned() throws Exception {
+        List<List<String>> rounds = Collections.singletonList(Arrays.asList("Jogador 1 e Jogada Pedra", "Jogador 2 e Jogada Tesoura"));
+
+        when(gameService.insertRounds(rounds)).thenReturn(Collections.singletonList("Resultado Jogador 1 Vitória"));
+
+        mockMvc.perform(post(API_URL_PATH_BATCH_PLAY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rounds)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]", is("Resultado Jogador 1 Vitória")));
+    }
+
+    @DisplayName("Testando que uma sala chamada batch recebe jogadas JSON como as demais")
+    @Test
+    void whenPOSTPlayJsonIsCalledOnRoomBatchThenTheEntryGoesToTheRoom() throws Exception {
+
+        when(gameService.insertMoveEntry("batch", "Jogador 1 e Jogada Pedra")).thenReturn("");
+
+        mockMvc.perform(post(API_URL_PATH_PLAY + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("\"Jogador 1 e Jogada Pedra\""))
+                .andExpect(status().isOk());
+
+        verify(gameService, never()).insertRounds(any());
+    }
+
 }
@@ -0,0 +1,69 @@
+package br.com.desafio.jokenpo.controller;
+
+import br.com.desafio.jokenpo.entity.Tournament;
+import br.com.desafio.jokenpo.entity.TournamentJob;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.service.TournamentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class TournamentControllerTest {
+
+    private static final String API_URL_PATH_TOURNAMENT = "/api/v1/jokenpo/tournament";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TournamentService tournamentService;
+
+    @InjectMocks
+    private TournamentController tournamentController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(tournamentController)
+                .setViewResolvers((s, locale) -> new MappingJackson2JsonView())
+                .build();
+    }
+
+    @DisplayName("Testando o início de um torneio")
+    @Test
+    void whenPOSTTournamentIsCalledThenTheJobIsAccepted() throws Exception {
+        when(tournamentService.startTournament(any(Tournament.class))).thenReturn(new TournamentJob(0, 1000));
+
+        mockMvc.perform(post(API_URL_PATH_TOURNAMENT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"players\":10,\"rounds\":1000}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is(0)))
+                .andExpect(jsonPath("$.status", is("RUNNING")));
+    }
+
+    @DisplayName("Testando a busca de um torneio nao cadastrado")
+    @Test
+    void whenGETTournamentWithInvalidIdIsCalledThenAnErrorIsReturned() throws Exception {
+        doThrow(DataNotFoundException.class).when(tournamentService).findTournament(1);
+
+        mockMvc.perform(get(API_URL_PATH_TOURNAMENT + "/1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+}
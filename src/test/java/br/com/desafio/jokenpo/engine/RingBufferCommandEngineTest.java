@@ -0,0 +1,77 @@
+package br.com.desafio.jokenpo.engine;
+
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataConflictException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class RingBufferCommandEngineTest {
+
+    private int counter;
+
+    @DisplayName("Testando que os comandos de várias threads são aplicados por um único escritor")
+    @Test
+    void whenManyThreadsSubmitThenEveryCommandIsAppliedOnce() throws Exception {
+        RingBufferCommandEngine engine = new RingBufferCommandEngine();
+        setField(engine, "ringSize", 8);
+        engine.start();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(executor.submit(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    engine.execute(() -> ++counter, DataConflictException.class);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        executor.shutdown();
+        engine.stop();
+
+        assertEquals(40000, counter);
+    }
+
+    @DisplayName("Testando que a exceção do comando chega ao chamador com o seu tipo")
+    @Test
+    void whenCommandFailsThenItsExceptionIsRethrown() throws Exception {
+        RingBufferCommandEngine engine = new RingBufferCommandEngine();
+        engine.start();
+
+        assertThrows(DataConflictException.class, () -> engine.execute(() -> {
+            throw new DataConflictException("O jogador já está cadastrado!");
+        }, DataNotFoundException.class, DataConflictException.class));
+        assertThrows(IllegalArgumentException.class, () -> engine.execute(() -> {
+            throw new IllegalArgumentException();
+        }, BadRequestException.class));
+        assertEquals("resultado", engine.execute(() -> engine.execute(() -> "resultado", BadRequestException.class),
+                BadRequestException.class));
+        engine.stop();
+    }
+
+    @DisplayName("Testando que comandos enviados depois do encerramento são recusados")
+    @Test
+    void whenEngineIsStoppedThenNewCommandsAreRejected() throws Exception {
+        RingBufferCommandEngine engine = new RingBufferCommandEngine();
+        engine.start();
+        engine.stop();
+
+        assertTrue(engine.submit(() -> ++counter).isCompletedExceptionally());
+        assertThrows(RejectedExecutionException.class, () -> engine.execute(() -> ++counter, BadRequestException.class));
+        assertEquals(0, counter);
+    }
+
+}
@@ -0,0 +1,59 @@
+package br.com.desafio.jokenpo.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameTableTest {
+
+    @DisplayName("Testando que cada jogada mantém a grafia com que foi feita")
+    @Test
+    void whenNamesHaveTheSameKeyThenEachEntryKeepsItsSpelling() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        MoveEntry first = new MoveEntry("Jogador Dicionario", "Jogada Pedra");
+        MoveEntry second = new MoveEntry("jogador dicionario", "pedra");
+
+        String json = objectMapper.writeValueAsString(second);
+
+        assertEquals("{\"player\":\"jogador dicionario\",\"move\":\"pedra\"}", json);
+        assertEquals(second, objectMapper.readValue(json, MoveEntry.class));
+        assertNotEquals(first, second);
+    }
+
+    @DisplayName("Testando que a tabela de nomes só conhece o que foi registrado nela")
+    @Test
+    void whenNameIsInternedThenOnlyItsTableKnowsIt() {
+        NameTable players = new NameTable(NameTable::playerKey);
+        NameTable others = new NameTable(NameTable::playerKey);
+
+        assertEquals(NameTable.MISSING, players.find("Jogador Tabela"));
+        int id = players.intern("Jogador Tabela");
+
+        assertEquals(id, players.intern(" jogador TABELA "));
+        assertEquals(id, players.find("JOGADOR TABELA"));
+        assertEquals(1, players.size());
+        assertEquals(NameTable.MISSING, others.find("Jogador Tabela"));
+    }
+
+    @DisplayName("Testando que jogadas resolvidas comparam pelos ids e mantêm a grafia")
+    @Test
+    void whenEntriesAreResolvedThenTheyCompareByIds() {
+        NameTable players = new NameTable(NameTable::playerKey);
+        NameTable moves = new NameTable(NameTable::moveKey);
+        MoveEntry typed = new MoveEntry(" jogador IDS ", "Jogada Pedra");
+
+        MoveEntry first = new MoveEntry(new MoveEntry("Jogador Ids", "Pedra"),
+                players.intern("Jogador Ids"), moves.intern("Pedra"));
+        MoveEntry second = new MoveEntry(typed, players.intern(typed.getPlayer()), moves.intern(typed.getMove()));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(" jogador IDS ", second.getPlayer());
+        assertEquals("Jogada Pedra", second.getMove());
+        assertFalse(typed.isResolved());
+        assertNotEquals(typed, new MoveEntry("Jogador Ids", "Pedra"));
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.desafio.jokenpo.event;
+
+import br.com.desafio.jokenpo.entity.GameEvent;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class SseGameEventsTest {
+
+    @DisplayName("Testando o descarte dos eventos mais antigos de um assinante lento")
+    @Test
+    void whenSubscriberIsSlowThenTheOldestEventsAreDropped() throws Exception {
+        SseGameEvents events = new SseGameEvents();
+        setField(events, "bufferSize", 2);
+        setField(events, "threads", 1);
+        setField(events, "timeoutMillis", 1000L);
+        events.start();
+        CountDownLatch blocked = new CountDownLatch(1);
+        ((ExecutorService) getField(events, "executor")).execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        events.subscribe("sala1");
+        events.subscribe("sala2");
+
+        for (int i = 0; i < 5; i++) {
+            events.publish(GameEvent.entry("sala1", new MoveEntry("Jogador " + i, "Jogada Pedra")));
+        }
+
+        assertEquals(2, events.countSubscribers());
+        assertEquals(3L, events.countDropped());
+        blocked.countDown();
+        events.stop();
+    }
+
+}
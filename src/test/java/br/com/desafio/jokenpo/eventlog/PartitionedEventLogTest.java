@@ -0,0 +1,89 @@
+package br.com.desafio.jokenpo.eventlog;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class PartitionedEventLogTest {
+
+    @DisplayName("Testando as projeções incrementais e a sua reconstrução a partir do log")
+    @Test
+    void whenLogIsReplayedThenProjectionsMatchTheIncrementalOnes() {
+        GameHistoryProjection history = new GameHistoryProjection();
+        PlayerStatsProjection players = new PlayerStatsProjection();
+        MoveFrequencyProjection moves = new MoveFrequencyProjection();
+        history.start();
+        players.start();
+        moves.start();
+        PartitionedEventLog eventLog = new PartitionedEventLog();
+        setField(eventLog, "partitionCount", 4);
+        setField(eventLog, "projections", List.of(history, players, moves));
+        eventLog.start();
+
+        eventLog.append(DomainEvent.playerRegistered("Log Jogador 1"));
+        eventLog.append(DomainEvent.playerRegistered("Log Jogador 2"));
+        eventLog.append(DomainEvent.playerRegistered("Log Jogador 3"));
+        for (int id = 0; id < 10; id++) {
+            List<MoveEntry> entries = Arrays.asList(new MoveEntry("Log Jogador 1", "Jogada Pedra"),
+                    new MoveEntry("Log Jogador 2", "Jogada Tesoura"));
+            eventLog.append(DomainEvent.entryPlayed("sala", entries.get(0)));
+            eventLog.append(DomainEvent.entryPlayed("sala", entries.get(1)));
+            eventLog.gameAdded(id, entries);
+        }
+        eventLog.gameDeleted(4, history.games().get(4));
+        eventLog.append(DomainEvent.playerDeleted("Log Jogador 3"));
+
+        assertEquals(35, eventLog.size());
+        assertLogState(history, players, moves);
+
+        eventLog.rebuildAll();
+
+        assertLogState(history, players, moves);
+    }
+
+    @DisplayName("Testando que o log mantém os últimos eventos de cada partição e deixa de reconstruir as projeções")
+    @Test
+    void whenPartitionIsFullThenOldestEventsAreDiscarded() {
+        GameHistoryProjection history = new GameHistoryProjection();
+        history.start();
+        PartitionedEventLog eventLog = new PartitionedEventLog();
+        setField(eventLog, "partitionCount", 1);
+        setField(eventLog, "partitionCapacity", 4);
+        setField(eventLog, "projections", List.of(history));
+        eventLog.start();
+
+        for (int id = 0; id < 6; id++) {
+            eventLog.gameAdded(id, List.of(new MoveEntry("Log Jogador 1", "Jogada Pedra"),
+                    new MoveEntry("Log Jogador 2", "Jogada Papel")));
+        }
+
+        assertEquals(6, eventLog.size());
+        assertEquals(2, eventLog.discarded());
+        assertEquals(6, history.games().size());
+        assertThrows(IllegalStateException.class, eventLog::rebuildAll);
+        assertEquals(6, history.games().size());
+    }
+
+    private static void assertLogState(GameHistoryProjection history, PlayerStatsProjection players,
+                                       MoveFrequencyProjection moves) {
+        assertEquals(9, history.games().size());
+        assertFalse(history.games().containsKey(4));
+        PlayerStats winner = players.findStats("Log Jogador 1").orElseThrow();
+        assertEquals(9, winner.getWins());
+        assertEquals(9, players.findStats("Log Jogador 2").orElseThrow().getLosses());
+        assertFalse(players.findStats("Log Jogador 3").isPresent());
+        Map<String, Long> frequencies = moves.frequencies();
+        assertEquals(9L, frequencies.get("Pedra"));
+        assertEquals(9L, frequencies.get("Tesoura"));
+        assertEquals(0L, frequencies.get("Spock"));
+    }
+
+}
@@ -0,0 +1,237 @@
+package br.com.desafio.jokenpo.journal;
+
+import br.com.desafio.jokenpo.entity.Move;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import br.com.desafio.jokenpo.repository.MoveRepository;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveEntryRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryPlayerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class JournalRecoveryTest {
+
+    @TempDir
+    Path dir;
+
+    @DisplayName("Testando a recuperação do estado a partir do journal")
+    @Test
+    void whenJournalIsReplayedThenTheStateIsRecovered() throws Exception {
+        Node first = new Node(dir);
+        first.playerRepository.addPlayer(new Player("Jogador 1"));
+        first.playerRepository.addPlayer(new Player("Jogador 2"));
+        first.playerRepository.addPlayer(new Player("Jogador 3"));
+        first.playerRepository.deletePlayer(new Player("Jogador 3"));
+        first.moveRepository.addMove(new Move("Jogada Pedra"));
+        first.moveRepository.addMove(new Move("Jogada Papel"));
+        first.moveEntryRepository.addEntry("sala", new MoveEntry("Jogador 1", "Jogada Pedra"));
+        first.moveEntryRepository.addEntry("sala", new MoveEntry("Jogador 2", "Jogada Papel"));
+        List<MoveEntry> entries = first.moveEntryRepository.takeEntries("sala", 2).orElseThrow();
+        int kept = first.gameRepository.addGame(entries);
+        int deleted = first.gameRepository.addGame(entries);
+        first.gameRepository.deleteGame(deleted);
+        first.moveEntryRepository.addEntry("sala", new MoveEntry("Jogador 1", "Jogada Papel"));
+        first.journal.stop();
+
+        Node second = new Node(dir);
+
+        assertTrue(second.playerRepository.findPlayer("Jogador 1"));
+        assertTrue(second.playerRepository.findPlayer("Jogador 2"));
+        assertFalse(second.playerRepository.findPlayer("Jogador 3"));
+        assertTrue(second.moveRepository.findMove("Pedra"));
+        assertEquals(entries, second.gameRepository.findGameById(kept).orElseThrow());
+        assertFalse(second.gameRepository.findGameById(deleted).isPresent());
+        assertEquals(1, (int) second.moveEntryRepository.countEntries("sala"));
+        assertEquals(deleted + 1, (int) second.gameRepository.addGame(entries));
+        second.journal.stop();
+    }
+
+    @DisplayName("Testando a recuperação a partir de um snapshot e do final do journal")
+    @Test
+    void whenSnapshotIsTakenThenOnlyTheTailIsReplayed() throws Exception {
+        Node first = new Node(dir);
+        first.playerRepository.addPlayer(new Player("Jogador 1"));
+        first.gameRepository.addGame(List.of(new MoveEntry("Jogador 1", "Jogada Pedra")));
+        first.journal.stop();
+
+        Node second = new Node(dir);
+        long segment = second.journal.segments().get(1);
+        second.recovery.snapshot(segment);
+        second.playerRepository.addPlayer(new Player("Jogador 2"));
+        second.gameRepository.addGame(List.of(new MoveEntry("Jogador 2", "Jogada Papel")));
+        second.journal.stop();
+
+        assertFalse(Files.exists(second.journal.segmentPath(segment - 1)));
+
+        Node third = new Node(dir);
+
+        assertTrue(third.playerRepository.findPlayer("Jogador 1"));
+        assertTrue(third.playerRepository.findPlayer("Jogador 2"));
+        assertEquals(2, (int) third.gameRepository.countGames());
+        third.journal.stop();
+    }
+
+    @DisplayName("Testando que o journal recusa gravações depois de encerrado")
+    @Test
+    void whenJournalIsStoppedThenMutationsAreRejected() throws Exception {
+        Node node = new Node(dir);
+        node.journal.stop();
+
+        assertThrows(IllegalStateException.class, () -> node.playerRepository.addPlayer(new Player("Jogador 1")));
+        assertFalse(node.playerRepository.findPlayer("Jogador 1"));
+        assertEquals(Status.DOWN, node.journal.health().getStatus());
+    }
+
+    @DisplayName("Testando que uma falha de gravação derruba o journal e recusa novas gravações")
+    @Test
+    void whenWriteFailsThenJournalIsDownAndMutationsAreRejected() throws Exception {
+        Node node = new Node(dir);
+        assertEquals(Status.UP, node.journal.health().getStatus());
+        ((JournalWriter) getField(node.journal, "writer")).close();
+
+        node.playerRepository.addPlayer(new Player("Jogador 1"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (node.journal.health().getStatus() != Status.DOWN && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Status.DOWN, node.journal.health().getStatus());
+        assertThrows(IllegalStateException.class, () -> node.moveRepository.addMove(new Move("Jogada Pedra")));
+        assertFalse(node.moveRepository.findMove("Pedra"));
+        node.journal.stop();
+    }
+
+    @DisplayName("Testando que o snapshot espera as alterações já gravadas no segmento anterior")
+    @Test
+    void whenChangeIsAppliedAfterRotationThenSnapshotStillHasIt() throws Exception {
+        Node first = new Node(dir, new FileJournal() {
+            @Override
+            public void append(JournalRecord record) {
+                super.append(record);
+                if (record.getType() != JournalRecord.Type.PLAYER_ADDED) {
+                    return;
+                }
+                // Holds the map update back until the segment with this record was rotated.
+                try {
+                    long deadline = System.currentTimeMillis() + 5_000;
+                    while (segments().size() < 2 && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(5);
+                    }
+                    Thread.sleep(100);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        setField(first.journal, "snapshotEvery", 1L);
+
+        first.playerRepository.addPlayer(new Player("Jogador 1"));
+        first.journal.stop();
+        first.recovery.shutdown();
+        assertTrue(((ExecutorService) getField(first.recovery, "snapshots")).awaitTermination(5, TimeUnit.SECONDS));
+
+        assertFalse(Files.exists(first.journal.segmentPath(0)));
+        Node second = new Node(dir);
+        assertTrue(second.playerRepository.findPlayer("Jogador 1"));
+        second.journal.stop();
+    }
+
+    @DisplayName("Testando que toda gravação aceita durante o encerramento é recuperada")
+    @Test
+    void whenJournalStopsDuringAppendsThenEveryAcceptedChangeIsRecovered() throws Exception {
+        Node first = new Node(dir);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            writers.add(new Thread(() -> {
+                for (int i = 0; ; i++) {
+                    try {
+                        first.playerRepository.addPlayer(new Player("Jogador " + writer + "-" + i));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        Thread.sleep(50);
+        first.journal.stop();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        Node second = new Node(dir);
+        assertEquals(accepted.get(), second.playerRepository.countPlayers());
+        second.journal.stop();
+    }
+
+    @DisplayName("Testando que a reserva garante espaço no journal para as gravações seguintes")
+    @Test
+    void whenRoomIsReservedThenAppendsAreAccepted() throws Exception {
+        Node node = new Node(dir);
+
+        assertThrows(IllegalStateException.class, () -> node.journal.reserve(1025));
+        node.journal.reserve(1024);
+        node.playerRepository.addPlayer(new Player("Jogador 1"));
+        node.journal.release();
+        node.moveRepository.addMove(new Move("Jogada Pedra"));
+
+        assertTrue(node.playerRepository.findPlayer("Jogador 1"));
+        assertTrue(node.moveRepository.findMove("Pedra"));
+        node.journal.stop();
+    }
+
+    private static class Node {
+
+        private final FileJournal journal;
+        private final JournalRecovery recovery = new JournalRecovery();
+        private final PlayerRepository playerRepository = new InMemoryPlayerRepository();
+        private final MoveRepository moveRepository = new InMemoryMoveRepository();
+        private final MoveEntryRepository moveEntryRepository = new InMemoryMoveEntryRepository();
+        private final GameRepository gameRepository = new InMemoryGameRepository();
+
+        Node(Path dir) throws Exception {
+            this(dir, new FileJournal());
+        }
+
+        Node(Path dir, FileJournal journal) throws Exception {
+            this.journal = journal;
+            setField(journal, "dir", dir.toString());
+            setField(journal, "fsync", false);
+            setField(journal, "batchSize", 16);
+            setField(journal, "queueCapacity", 1024);
+            setField(journal, "snapshotEvery", 0L);
+            for (Object repository : new Object[]{playerRepository, moveRepository, moveEntryRepository, gameRepository}) {
+                setField(repository, "journal", journal);
+            }
+            setField(recovery, "journal", journal);
+            setField(recovery, "playerRepository", playerRepository);
+            setField(recovery, "moveRepository", moveRepository);
+            setField(recovery, "moveEntryRepository", moveEntryRepository);
+            setField(recovery, "gameRepository", gameRepository);
+            recovery.recover();
+        }
+    }
+
+}
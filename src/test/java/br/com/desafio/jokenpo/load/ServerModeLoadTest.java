@@ -0,0 +1,119 @@
+package br.com.desafio.jokenpo.load;
+
+import br.com.desafio.jokenpo.JokenpoApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the default Tomcat pool with virtual-thread request handling while
+ * {@code jokenpo.load.idle} connections hold a request open by never finishing its body. Run with
+ * {@code ./gradlew loadTest}; the size of the run is set by the jokenpo.load.* system properties.
+ */
+@Tag("load")
+public class ServerModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("jokenpo.load.clients", 2000);
+    private static final int REQUESTS = Integer.getInteger("jokenpo.load.requests", 50000);
+    private static final int IDLE = Integer.getInteger("jokenpo.load.idle", 1000);
+    private static final int ROOMS = 1000;
+    private static final String[] ENTRIES = {"Jogador 1 e Jogada Pedra", "Jogador 2 e Jogada Pedra", "Jogar"};
+
+    @DisplayName("Testando a API sob carga nos modos de execução do servidor")
+    @ParameterizedTest(name = "virtual-threads={0}")
+    @ValueSource(booleans = {false, true})
+    void whenManyClientsPlayConcurrentlyThenEveryRequestSucceeds(boolean virtualThreads) throws Exception {
+        assumeTrue(!virtualThreads || Runtime.version().feature() >= 21, "Threads virtuais requerem Java 21");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JokenpoApplication.class)
+                .run("--server.port=0", "--jokenpo.server.virtual-threads=" + virtualThreads);
+        List<Socket> idle = new ArrayList<>(IDLE);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/jokenpo";
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+            for (String player : Arrays.asList("Jogador 1", "Jogador 2")) {
+                send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/player"))
+                        .POST(HttpRequest.BodyPublishers.ofString(player)).build());
+            }
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/move"))
+                    .POST(HttpRequest.BodyPublishers.ofString("Jogada Pedra")).build());
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            for (int i = 0; i < IDLE; i++) {
+                idle.add(holdRequest(port));
+            }
+
+            Semaphore inFlight = new Semaphore(CLIENTS);
+            AtomicInteger failures = new AtomicInteger();
+            long[] latencies = new long[REQUESTS];
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[REQUESTS];
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int request = i;
+                String room = "sala-" + (i % ROOMS);
+                String entry = ENTRIES[(i / ROOMS) % ENTRIES.length];
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                requests[i] = client.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + "/play/" + room))
+                        .POST(HttpRequest.BodyPublishers.ofString(entry)).build(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            latencies[request] = System.nanoTime() - sent;
+                            if (error != null || response.statusCode() >= 500) {
+                                failures.incrementAndGet();
+                            }
+                            inFlight.release();
+                        });
+            }
+            CompletableFuture.allOf(requests).join();
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            System.out.printf("virtual-threads=%s ociosas=%d clientes=%d requisições=%d req/s=%.0f p50=%.2fms p99=%.2fms%n",
+                    virtualThreads, IDLE, CLIENTS, REQUESTS, REQUESTS / (elapsed / 1e9),
+                    latencies[REQUESTS / 2] / 1e6, latencies[REQUESTS * 99 / 100] / 1e6);
+            assertEquals(0, failures.get());
+        } finally {
+            for (Socket socket : idle) {
+                socket.close();
+            }
+            context.close();
+        }
+    }
+
+    /**
+     * Opens a play request whose body never arrives, so the server keeps a request thread reading it.
+     */
+    private static Socket holdRequest(int port) throws Exception {
+        Socket socket = new Socket("localhost", port);
+        OutputStream out = socket.getOutputStream();
+        out.write(("POST /api/v1/jokenpo/play/sala-ociosa HTTP/1.1\r\nHost: localhost\r\n"
+                + "Content-Type: text/plain\r\nContent-Length: 1024\r\n\r\nJogador").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        return socket;
+    }
+
+    private static void send(HttpClient client, HttpRequest request) throws Exception {
+        assertTrue(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 300);
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.desafio.jokenpo.metrics;
+
+import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.MoveEntryRepository;
+import br.com.desafio.jokenpo.repository.PlayerRepository;
+import br.com.desafio.jokenpo.service.OutcomeResolver;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveEntryRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryPlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class MicrometerGameMetricsTest {
+
+    @DisplayName("Testando os contadores de rodadas e os medidores de estado")
+    @Test
+    void whenRoundsAreResolvedThenTheMetricsAreRecorded() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PlayerRepository playerRepository = new InMemoryPlayerRepository();
+        playerRepository.addPlayer(new Player("Jogador 1"));
+        MicrometerGameMetrics gameMetrics = new MicrometerGameMetrics();
+        setField(gameMetrics, "meterRegistry", meterRegistry);
+        setField(gameMetrics, "playerRepository", playerRepository);
+        setField(gameMetrics, "moveEntryRepository", new InMemoryMoveEntryRepository());
+        setField(gameMetrics, "gameRepository", new InMemoryGameRepository());
+        gameMetrics.register();
+
+        gameMetrics.roundResolved(3);
+        gameMetrics.roundResolved(3);
+        gameMetrics.roundResolved(OutcomeResolver.NO_MOVE);
+
+        assertEquals(2.0, meterRegistry.get("jokenpo.rounds").tag("outcome", "pedra").counter().count());
+        assertEquals(1.0, meterRegistry.get("jokenpo.rounds").tag("outcome", "empate").counter().count());
+        assertEquals(1.0, meterRegistry.get("jokenpo.players").gauge().value());
+        assertEquals(0.0, meterRegistry.get("jokenpo.games").gauge().value());
+    }
+
+    @DisplayName("Testando a contagem de exceções por tipo")
+    @Test
+    void whenExceptionIsResolvedThenItIsCounted() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExceptionMetrics exceptionMetrics = new ExceptionMetrics();
+        setField(exceptionMetrics, "meterRegistry", meterRegistry);
+        exceptionMetrics.register();
+
+        assertNull(exceptionMetrics.resolveException(null, null, null, new DataNotFoundException("Teste")));
+
+        assertEquals(1.0, meterRegistry.get("jokenpo.exceptions").tag("exception", "DataNotFoundException").counter().count());
+        assertEquals(0.0, meterRegistry.get("jokenpo.exceptions").tag("exception", "BadRequestException").counter().count());
+    }
+
+}
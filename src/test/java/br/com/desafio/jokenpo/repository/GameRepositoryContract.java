@@ -0,0 +1,117 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link GameRepository} backend must have. Backends extend it and return a
+ * new, empty repository from {@link #createRepository()}.
+ */
+public abstract class GameRepositoryContract {
+
+    protected abstract GameRepository createRepository();
+
+    @DisplayName("Testando que um id excluído não é reutilizado")
+    @Test
+    void whenGameIsDeletedThenItsIdIsNotReused() {
+        GameRepository gameRepository = createRepository();
+        List<MoveEntry> first = Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra"));
+        List<MoveEntry> second = Collections.singletonList(new MoveEntry("Jogador 2", "Jogada Papel"));
+        List<MoveEntry> third = Collections.singletonList(new MoveEntry("Jogador 3", "Jogada Spock"));
+
+        int firstId = gameRepository.addGame(first);
+        int secondId = gameRepository.addGame(second);
+        gameRepository.deleteGame(firstId);
+        int thirdId = gameRepository.addGame(third);
+
+        assertEquals(0, firstId);
+        assertEquals(1, secondId);
+        assertEquals(2, thirdId);
+        assertFalse(gameRepository.findGameById(firstId).isPresent());
+        assertEquals(second, gameRepository.findGameById(secondId).orElseThrow());
+        assertEquals(2, (int) gameRepository.countGames());
+    }
+
+    @DisplayName("Testando a busca de jogos por intervalo de ids")
+    @Test
+    void whenRangeIsGivenThenReturnGamesInIdOrder() {
+        GameRepository gameRepository = createRepository();
+        for (int i = 0; i < 10; i++) {
+            gameRepository.addGame(Collections.singletonList(new MoveEntry("Jogador " + i, "Jogada Pedra")));
+        }
+        gameRepository.deleteGame(4);
+
+        assertEquals(List.of(3, 5, 6), List.copyOf(gameRepository.findGamesBetween(3, 6).keySet()));
+    }
+
+    @DisplayName("Testando a gravação em lote com ids contíguos")
+    @Test
+    void whenGamesAreAddedInBatchThenTheyReceiveContiguousIds() {
+        GameRepository gameRepository = createRepository();
+        List<MoveEntry> single = Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra"));
+        gameRepository.addGame(single);
+
+        int first = gameRepository.addGames(Collections.nCopies(3, single));
+
+        assertEquals(1, first);
+        assertEquals(4, (int) gameRepository.nextKey());
+        assertEquals(4, (int) gameRepository.countGames());
+        assertEquals(single, gameRepository.findGameById(3).orElseThrow());
+    }
+
+    @DisplayName("Testando a paginação e a exclusão de jogos")
+    @Test
+    void whenGamesArePagedThenDeletedGamesAreSkipped() {
+        GameRepository gameRepository = createRepository();
+        for (int i = 0; i < 5; i++) {
+            gameRepository.addGame(Collections.singletonList(new MoveEntry("Jogador " + i, "Jogada Papel")));
+        }
+        long version = gameRepository.version();
+        gameRepository.deleteGame(1);
+        gameRepository.deleteGame(1);
+
+        assertNotEquals(version, gameRepository.version());
+        assertEquals(List.of(2, 3), List.copyOf(gameRepository.findGames(0, 2).keySet()));
+        assertEquals(List.of(0, 2, 3, 4), List.copyOf(gameRepository.findGames().keySet()));
+        assertEquals(3L, gameRepository.streamGames(0).count());
+    }
+
+    @DisplayName("Testando que o limite da página conta jogos e não jogadas")
+    @Test
+    void whenGamesHaveSeveralEntriesThenThePageKeepsWholeGames() {
+        GameRepository gameRepository = createRepository();
+        List<MoveEntry> entries = List.of(new MoveEntry("Jogador 1", "Jogada Pedra"), new MoveEntry("Jogador 2", "Jogada Papel"),
+                new MoveEntry("Jogador 3", "Jogada Tesoura"));
+        for (int i = 0; i < 5; i++) {
+            gameRepository.addGame(entries);
+        }
+
+        NavigableMap<Integer, List<MoveEntry>> first = gameRepository.findGames(null, 2);
+
+        assertEquals(List.of(0, 1), List.copyOf(first.keySet()));
+        assertEquals(entries, first.get(1));
+        assertEquals(List.of(4), List.copyOf(gameRepository.findGames(3, 5).keySet()));
+        assertTrue(gameRepository.findGames(4, 1).isEmpty());
+    }
+
+    @DisplayName("Testando a restauração de jogos do journal")
+    @Test
+    void whenGamesAreRestoredThenTheSequenceContinuesAfterThem() {
+        GameRepository gameRepository = createRepository();
+        List<MoveEntry> entries = Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Lagarto"));
+
+        gameRepository.restoreGame(7, entries);
+        gameRepository.restoreSequence(9);
+
+        assertEquals(entries, gameRepository.findGameById(7).orElseThrow());
+        assertEquals(9, (int) gameRepository.addGame(entries));
+    }
+
+}
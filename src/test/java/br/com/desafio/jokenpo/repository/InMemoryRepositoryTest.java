@@ -0,0 +1,43 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveEntryRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryMoveRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryPlayerRepository;
+import org.junit.jupiter.api.Nested;
+
+public class InMemoryRepositoryTest {
+
+    @Nested
+    class Players extends PlayerRepositoryContract {
+        @Override
+        protected PlayerRepository createRepository() {
+            return new InMemoryPlayerRepository();
+        }
+    }
+
+    @Nested
+    class Moves extends MoveRepositoryContract {
+        @Override
+        protected MoveRepository createRepository() {
+            return new InMemoryMoveRepository();
+        }
+    }
+
+    @Nested
+    class MoveEntries extends MoveEntryRepositoryContract {
+        @Override
+        protected MoveEntryRepository createRepository() {
+            return new InMemoryMoveEntryRepository();
+        }
+    }
+
+    @Nested
+    class Games extends GameRepositoryContract {
+        @Override
+        protected GameRepository createRepository() {
+            return new InMemoryGameRepository();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.repository.jdbc.JdbcGameRepository;
+import br.com.desafio.jokenpo.repository.jdbc.JdbcMoveRepository;
+import br.com.desafio.jokenpo.repository.jdbc.JdbcPlayerRepository;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the repository contracts against the JDBC backend, each repository on its own empty H2
+ * in-memory database.
+ */
+public class JdbcRepositoryTest {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private static DriverManagerDataSource newDataSource() {
+        return new DriverManagerDataSource("jdbc:h2:mem:jokenpo" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+    }
+
+    private static JdbcGameRepository newGameRepository(DriverManagerDataSource dataSource, boolean writeBehind) {
+        JdbcGameRepository gameRepository = new JdbcGameRepository();
+        ReflectionTestUtils.setField(gameRepository, "jdbcTemplate", new JdbcTemplate(dataSource));
+        ReflectionTestUtils.setField(gameRepository, "transactionTemplate",
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(gameRepository, "writeBehind", writeBehind);
+        gameRepository.start();
+        return gameRepository;
+    }
+
+    @DisplayName("Testando que os jogos enfileirados são lidos pelo id e gravados ao encerrar")
+    @Test
+    void whenWriteBehindStopsThenQueuedGamesAreWritten() throws InterruptedException {
+        DriverManagerDataSource dataSource = newDataSource();
+        JdbcGameRepository gameRepository = newGameRepository(dataSource, true);
+        ReflectionTestUtils.setField(gameRepository, "flushIntervalMillis", 60000L);
+        List<MoveEntry> entries = Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra"));
+
+        int id = gameRepository.addGame(entries);
+
+        assertEquals(entries, gameRepository.findGameById(id).orElseThrow());
+        gameRepository.stop();
+        assertEquals(0, gameRepository.pendingGames());
+        JdbcGameRepository reopened = newGameRepository(dataSource, false);
+        assertEquals(entries, reopened.findGameById(id).orElseThrow());
+        assertEquals(1, (int) reopened.countGames());
+    }
+
+    @DisplayName("Testando que um lote que falha continua pendente e é gravado na nova tentativa")
+    @Test
+    void whenFlushFailsThenGamesStayPendingAndAreRetried() throws InterruptedException {
+        DriverManagerDataSource dataSource = newDataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcGameRepository gameRepository = newGameRepository(dataSource, true);
+        List<MoveEntry> entries = Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra"));
+        jdbcTemplate.execute("ALTER TABLE game_entry RENAME TO game_entry_off");
+
+        int id = gameRepository.addGame(entries);
+        while (gameRepository.flushFailures() == 0) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(1, gameRepository.pendingGames());
+        assertEquals(entries, gameRepository.findGameById(id).orElseThrow());
+        jdbcTemplate.execute("ALTER TABLE game_entry_off RENAME TO game_entry");
+        while (gameRepository.pendingGames() > 0) {
+            Thread.sleep(5);
+        }
+        gameRepository.stop();
+        assertEquals(entries, newGameRepository(dataSource, false).findGameById(id).orElseThrow());
+    }
+
+    @DisplayName("Testando que o encerramento falha se restarem jogos sem gravar")
+    @Test
+    void whenGamesCannotBeWrittenThenStopFails() {
+        DriverManagerDataSource dataSource = newDataSource();
+        JdbcGameRepository gameRepository = newGameRepository(dataSource, true);
+        new JdbcTemplate(dataSource).execute("ALTER TABLE game_entry RENAME TO game_entry_off");
+
+        gameRepository.addGame(Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra")));
+
+        assertThrows(IllegalStateException.class, gameRepository::stop);
+        assertEquals(1, gameRepository.pendingGames());
+    }
+
+    @DisplayName("Testando que a gravação posterior continua depois de uma interrupção")
+    @Test
+    void whenFlusherIsInterruptedThenQueuedGamesAreStillWritten() throws InterruptedException {
+        JdbcGameRepository gameRepository = newGameRepository(newDataSource(), true);
+        ((Thread) ReflectionTestUtils.getField(gameRepository, "flusher")).interrupt();
+
+        gameRepository.addGame(Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra")));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (gameRepository.pendingGames() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(0, gameRepository.pendingGames());
+        assertEquals(1, gameRepository.flushes());
+        gameRepository.stop();
+    }
+
+    @Nested
+    class Players extends PlayerRepositoryContract {
+        @Override
+        protected PlayerRepository createRepository() {
+            JdbcPlayerRepository playerRepository = new JdbcPlayerRepository();
+            ReflectionTestUtils.setField(playerRepository, "jdbcTemplate", new JdbcTemplate(newDataSource()));
+            playerRepository.createTable();
+            return playerRepository;
+        }
+    }
+
+    @Nested
+    class Moves extends MoveRepositoryContract {
+        @Override
+        protected MoveRepository createRepository() {
+            JdbcMoveRepository moveRepository = new JdbcMoveRepository();
+            ReflectionTestUtils.setField(moveRepository, "jdbcTemplate", new JdbcTemplate(newDataSource()));
+            moveRepository.createTable();
+            return moveRepository;
+        }
+    }
+
+    @Nested
+    class Games extends GameRepositoryContract {
+        @Override
+        protected GameRepository createRepository() {
+            return newGameRepository(newDataSource(), false);
+        }
+    }
+
+    @Nested
+    class WriteBehindGames extends GameRepositoryContract {
+        @Override
+        protected GameRepository createRepository() {
+            return newGameRepository(newDataSource(), true);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class MoveEntryRepositoryContract {
+
+    protected abstract MoveEntryRepository createRepository();
+
+    @DisplayName("Testando as entradas de uma sala até o Jogar")
+    @Test
+    void whenEntriesAreTakenThenTheRoomStartsANewGame() {
+        MoveEntryRepository moveEntryRepository = createRepository();
+        MoveEntry first = new MoveEntry("Contrato 1", "Jogada Pedra");
+        MoveEntry second = new MoveEntry("Contrato 2", "Jogada Papel");
+
+        assertTrue(moveEntryRepository.addEntry("sala", first));
+        assertFalse(moveEntryRepository.addEntry("sala", new MoveEntry("Contrato 1", "Jogada Spock")));
+        assertTrue(moveEntryRepository.addEntry("outra", new MoveEntry("Contrato 1", "Jogada Spock")));
+        assertFalse(moveEntryRepository.takeEntries("sala", 2).isPresent());
+        assertTrue(moveEntryRepository.addEntry("sala", second));
+        assertTrue(moveEntryRepository.findPlayerOnEntries("sala", "Contrato 2"));
+        assertTrue(moveEntryRepository.findEntryByMove("Jogada Papel"));
+        assertEquals(3, moveEntryRepository.countActiveEntries());
+
+        List<MoveEntry> entries = moveEntryRepository.takeEntries("sala", 2).orElseThrow();
+
+        assertEquals(Arrays.asList(first, second), entries);
+        assertEquals(0, (int) moveEntryRepository.countEntries("sala"));
+        assertFalse(moveEntryRepository.findEntryByPlayer("Contrato 2"));
+        assertTrue(moveEntryRepository.findEntryByPlayer("Contrato 1"));
+    }
+
+}
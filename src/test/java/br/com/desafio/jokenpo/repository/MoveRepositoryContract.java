@@ -0,0 +1,45 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.entity.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class MoveRepositoryContract {
+
+    protected abstract MoveRepository createRepository();
+
+    @DisplayName("Testando o cadastro e a exclusão de jogadas")
+    @Test
+    void whenMovesAreAddedAndDeletedThenLookupsFollow() {
+        MoveRepository moveRepository = createRepository();
+
+        assertTrue(moveRepository.addMove(new Move("Jogada Pedra")));
+        assertFalse(moveRepository.addMove(new Move("pedra")));
+        assertTrue(moveRepository.findMove("Pedra"));
+        assertEquals(1, moveRepository.getMoves().orElseThrow().size());
+
+        long version = moveRepository.version();
+        moveRepository.deleteMove(new Move("Jogada Pedra"));
+
+        assertNotEquals(version, moveRepository.version());
+        assertFalse(moveRepository.getMoveByMove("Jogada Pedra").isPresent());
+    }
+
+    @DisplayName("Testando que a busca de jogadas é exata e aceita o nome com ou sem o prefixo Jogada")
+    @Test
+    void whenMoveIsLookedUpThenPrefixAndCaseAreNormalized() {
+        MoveRepository moveRepository = createRepository();
+
+        assertTrue(moveRepository.addMove(new Move("Jogada Papel")));
+
+        assertTrue(moveRepository.findMove("papel"));
+        assertTrue(moveRepository.findMove("  JOGADA papel "));
+        assertEquals("Jogada Papel", moveRepository.getMoveByMove("Papel").orElseThrow().getMove());
+        assertFalse(moveRepository.findMove("Jogada Pa"));
+        assertFalse(moveRepository.findMove("Jogada"));
+        assertFalse(moveRepository.findMove("Jogada Papelão"));
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.com.desafio.jokenpo.repository;
+
+import br.com.desafio.jokenpo.entity.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class PlayerRepositoryContract {
+
+    protected abstract PlayerRepository createRepository();
+
+    @DisplayName("Testando o cadastro e a exclusão de jogadores")
+    @Test
+    void whenPlayersAreAddedAndDeletedThenLookupsFollow() {
+        PlayerRepository playerRepository = createRepository();
+        long version = playerRepository.version();
+
+        assertTrue(playerRepository.addPlayer(new Player("Contrato Jogador")));
+        assertFalse(playerRepository.addPlayer(new Player("contrato jogador ")));
+        assertNotEquals(version, playerRepository.version());
+        assertTrue(playerRepository.findPlayer("CONTRATO JOGADOR"));
+        assertEquals("Contrato Jogador", playerRepository.getPlayerByPlayer("contrato jogador").orElseThrow().getPlayer());
+        assertEquals(1, playerRepository.countPlayers());
+
+        playerRepository.deletePlayer(new Player("Contrato Jogador"));
+
+        assertFalse(playerRepository.findPlayer("Contrato Jogador"));
+        assertTrue(playerRepository.getPlayers().orElseThrow().isEmpty());
+    }
+
+    @DisplayName("Testando que a busca de jogadores é exata e não por prefixo")
+    @Test
+    void whenNamesShareAPrefixThenLookupsDoNotCollide() {
+        PlayerRepository playerRepository = createRepository();
+
+        assertTrue(playerRepository.addPlayer(new Player("Prefixo Jogador 1")));
+        assertTrue(playerRepository.addPlayer(new Player("Prefixo Jogador 10")));
+        assertFalse(playerRepository.findPlayer("Prefixo Jogador"));
+        assertEquals("Prefixo Jogador 1", playerRepository.getPlayerByPlayer("Prefixo Jogador 1").orElseThrow().getPlayer());
+
+        playerRepository.deletePlayer(new Player("Prefixo Jogador 1"));
+
+        assertFalse(playerRepository.findPlayer("Prefixo Jogador 1"));
+        assertTrue(playerRepository.findPlayer("Prefixo Jogador 10"));
+        assertEquals(1, playerRepository.countPlayers());
+    }
+
+    @DisplayName("Testando que a busca de jogadores ignora maiúsculas e espaços nas pontas")
+    @Test
+    void whenNameDiffersOnlyInCaseOrSpacesThenItIsTheSamePlayer() {
+        PlayerRepository playerRepository = createRepository();
+
+        assertTrue(playerRepository.addPlayer(new Player("Normalizado Jogador")));
+
+        assertTrue(playerRepository.findPlayer("  NORMALIZADO jogador  "));
+        assertEquals("Normalizado Jogador", playerRepository.getPlayerByPlayer("normalizado JOGADOR").orElseThrow().getPlayer());
+        assertFalse(playerRepository.findPlayer("Normalizado  Jogador"));
+    }
+
+}
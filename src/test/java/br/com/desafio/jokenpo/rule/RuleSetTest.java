@@ -0,0 +1,72 @@
+package br.com.desafio.jokenpo.rule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuleSetTest {
+
+    @DisplayName("Testando a variante clássica compilada")
+    @Test
+    void whenClassicVariantIsCompiledThenEachMoveBeatsTwoOthers() {
+        RuleSet rules = RuleSet.compile(GameVariant.classic());
+
+        assertEquals("Spock, Tesoura, Papel, Pedra e Lagarto", rules.describe());
+        assertEquals(3, rules.moveCode("Jogada Pedra"));
+        assertEquals(RuleSet.NO_MOVE, rules.moveCode("Jogada Melancia"));
+        assertTrue(rules.beats(3, 1));
+        assertTrue(rules.beats(3, 4));
+        assertFalse(rules.beats(1, 3));
+        assertEquals(3, rules.winner(1L << 3 | 1L << 1));
+        assertEquals(RuleSet.NO_MOVE, rules.winner(1L << 3 | 1L << 1 | 1L << 2));
+    }
+
+    @DisplayName("Testando a variante com sete jogadas")
+    @Test
+    void whenRps7IsCompiledThenEachMoveBeatsTheNextThree() {
+        RuleSet rules = RuleSet.compile(GameVariant.rps7());
+
+        int pedra = rules.moveCode("Pedra");
+        assertTrue(rules.beats(pedra, rules.moveCode("Fogo")));
+        assertTrue(rules.beats(pedra, rules.moveCode("Esponja")));
+        assertTrue(rules.beats(rules.moveCode("Água"), pedra));
+        assertEquals(pedra, rules.winner(1L << pedra | 1L << rules.moveCode("Tesoura")));
+    }
+
+    @DisplayName("Testando uma rodada com 101 jogadas e 100000 participantes")
+    @Test
+    void whenManyMovesAndParticipantsArePlayedThenTheUnbeatenMoveWins() {
+        List<String> moves = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            moves.add("Gesto " + i);
+        }
+        RuleSet rules = RuleSet.compile(GameVariant.cyclic("rps-101", moves));
+        assertEquals(2, rules.words());
+
+        SplittableRandom random = new SplittableRandom(7);
+        long[] mask = rules.newMask();
+        for (int participant = 0; participant < 100000; participant++) {
+            int code = 60 + random.nextInt(41);
+            mask[code >>> 6] |= 1L << code;
+        }
+        assertEquals(60, rules.winner(mask));
+
+        mask[0] |= 1L << 10;
+        assertEquals(RuleSet.NO_MOVE, rules.winner(mask));
+    }
+
+    @DisplayName("Testando variantes invalidas")
+    @Test
+    void whenVariantIsInconsistentThenAnExceptionShouldBeThrown() {
+        assertThrows(IllegalArgumentException.class, () -> GameVariant.cyclic("par", Arrays.asList("A", "B", "C", "D")));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.compile(new GameVariant("mutua", Arrays.asList("A", "B"), (a, b) -> a != b)));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.compile(new GameVariant("repetida", Arrays.asList("A", "Jogada A"), (a, b) -> a < b)));
+    }
+
+}
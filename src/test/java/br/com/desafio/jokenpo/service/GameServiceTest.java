@@ -3,6 +3,7 @@ package br.com.desafio.jokenpo.service;
 import br.com.desafio.jokenpo.entity.Move;
 import br.com.desafio.jokenpo.entity.MoveEntry;
 import br.com.desafio.jokenpo.entity.Player;
+import br.com.desafio.jokenpo.entity.PlayerStats;
 import br.com.desafio.jokenpo.exception.BadRequestException;
 import br.com.desafio.jokenpo.exception.DataConflictException;
 import br.com.desafio.jokenpo.exception.DataNotFoundException;
@@ -10,6 +11,7 @@ import br.com.desafio.jokenpo.repository.GameRepository;
 import br.com.desafio.jokenpo.repository.MoveEntryRepository;
 import br.com.desafio.jokenpo.repository.MoveRepository;
 import br.com.desafio.jokenpo.repository.PlayerRepository;
+import br.com.desafio.jokenpo.stats.PlayerStatsIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,13 +42,16 @@ public class GameServiceTest {
     @Mock
     GameRepository gameRepository;
 
+    @Mock
+    PlayerStatsIndex playerStatsIndex;
+
     @DisplayName("Testando a criação de um jogador")
     @Test
     void whenPlayerShouldBeCreated() throws DataConflictException {
         Player player = new Player("Jogador 4");
 
         when(playerRepository.getPlayerByPlayer(player.getPlayer())).thenReturn(Optional.empty());
-        doNothing().when(playerRepository).addPlayer(player);
+        when(playerRepository.addPlayer(player)).thenReturn(true);
 
         gameService.createPlayer(player.getPlayer());
 
@@ -149,7 +154,7 @@ public class GameServiceTest {
         Move move = new Move("Jogada Papel");
 
         when(moveRepository.getMoveByMove(move.getMove())).thenReturn(Optional.empty());
-        doNothing().when(moveRepository).addMove(move);
+        when(moveRepository.addMove(move)).thenReturn(true);
 
         gameService.createMove(move.getMove());
 
@@ -266,7 +271,7 @@ public class GameServiceTest {
 
         when(playerRepository.findPlayer(moveEntry.getPlayer())).thenReturn(true);
         when(moveRepository.findMove(moveEntry.getMove())).thenReturn(true);
-        doNothing().when(moveEntryRepository).addEntry(moveEntry);
+        when(moveEntryRepository.addEntry(GameService.DEFAULT_ROOM, moveEntry)).thenReturn(true);
 
         String result = gameService.insertMoveEntry(me);
 
@@ -298,7 +303,7 @@ public class GameServiceTest {
         MoveEntry moveEntry = new MoveEntry(player.getPlayer(), move.getMove());
 
         when(playerRepository.findPlayer(moveEntry.getPlayer())).thenReturn(true);
-        when(moveEntryRepository.findPlayerOnEntries(moveEntry.getPlayer())).thenReturn(true);
+        when(moveEntryRepository.findPlayerOnEntries(GameService.DEFAULT_ROOM, moveEntry.getPlayer())).thenReturn(true);
 
         assertThrows(DataConflictException.class, () -> gameService.insertMoveEntry(me));
     }
@@ -318,19 +323,9 @@ public class GameServiceTest {
         List<MoveEntry> entries = new ArrayList<>();
         entries.add(new MoveEntry("Jogador 1", "Jogada Pedra"));
         entries.add(new MoveEntry("Jogador 2", "Jogada Tesoura"));
-        MoveEntry winner = new MoveEntry("Jogador 1", "Jogada Pedra");
-
-        when(moveEntryRepository.countEntries()).thenReturn(2);
-        when(moveEntryRepository.findMoveOnEntries("Spock")).thenReturn(false);
-        when(moveEntryRepository.findMoveOnEntries("Tesoura")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Papel")).thenReturn(false);
-        when(moveEntryRepository.findMoveOnEntries("Pedra")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Lagarto")).thenReturn(false);
-        when(moveEntryRepository.getWinnerMove("Pedra")).thenReturn(Collections.singletonList(winner));
-        when(gameRepository.lastGame()).thenReturn(-1);
-        when(moveEntryRepository.getEntries()).thenReturn(Optional.of(entries));
-        doNothing().when(gameRepository).addGame(0, entries);
-        doNothing().when(moveEntryRepository).clearEntries();
+
+        when(moveEntryRepository.takeEntries(GameService.DEFAULT_ROOM, 2)).thenReturn(Optional.of(entries));
+        when(gameRepository.addGame(entries)).thenReturn(0);
 
         String result = gameService.insertMoveEntry(me);
 
@@ -346,50 +341,48 @@ public class GameServiceTest {
         entries.add(new MoveEntry("Jogador 2", "Jogada Tesoura"));
         entries.add(new MoveEntry("Jogador 3", "Jogada Papel"));
 
-        when(moveEntryRepository.countEntries()).thenReturn(3);
-        when(moveEntryRepository.findMoveOnEntries("Spock")).thenReturn(false);
-        when(moveEntryRepository.findMoveOnEntries("Tesoura")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Papel")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Pedra")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Lagarto")).thenReturn(false);
-        when(gameRepository.lastGame()).thenReturn(-1);
-        when(moveEntryRepository.getEntries()).thenReturn(Optional.of(entries));
-        doNothing().when(gameRepository).addGame(0, entries);
-        doNothing().when(moveEntryRepository).clearEntries();
+        when(moveEntryRepository.takeEntries(GameService.DEFAULT_ROOM, 2)).thenReturn(Optional.of(entries));
+        when(gameRepository.addGame(entries)).thenReturn(0);
 
         String result = gameService.insertMoveEntry(me);
 
         assertEquals(result, "Resultado Empate");
     }
 
+    @DisplayName("Testando uma entrada de jogo em uma sala com jogador que ja jogou concorrentemente")
+    @Test
+    void whenConcurrentMoveEntryOnRoomIsRejectedThenAnExceptionShouldBeThrown() {
+        String me = "Jogador 1 e Jogada Spock";
+        MoveEntry moveEntry = new MoveEntry("Jogador 1", "Jogada Spock");
+
+        when(playerRepository.findPlayer(moveEntry.getPlayer())).thenReturn(true);
+        when(moveEntryRepository.findPlayerOnEntries("sala1", moveEntry.getPlayer())).thenReturn(false);
+        when(moveRepository.findMove(moveEntry.getMove())).thenReturn(true);
+        when(moveEntryRepository.addEntry("sala1", moveEntry)).thenReturn(false);
+
+        assertThrows(DataConflictException.class, () -> gameService.insertMoveEntry("sala1", me));
+    }
+
     @DisplayName("Testando uma entrada Jogar com apenas 1 jogador participando")
     @Test
     void whenMoveEntryIsPlayWithOnePlayerThenAnExceptionShouldBeThrown() {
         String me = "Jogar";
 
-        when(moveEntryRepository.countEntries()).thenReturn(1);
+        when(moveEntryRepository.takeEntries(GameService.DEFAULT_ROOM, 2)).thenReturn(Optional.empty());
 
         assertThrows(BadRequestException.class, () -> gameService.insertMoveEntry(me));
     }
 
-    @DisplayName("Testando uma entrada Jogar com jogo nao ativo")
+    @DisplayName("Testando uma entrada Jogar com jogo já encerrado por um Jogar concorrente")
     @Test
-    void whenMoveEntryIsPlayWithoutGameThenAnExceptionShouldBeThrown() {
+    void whenMoveEntryIsPlayAfterConcurrentPlayThenAnExceptionShouldBeThrown() {
         String me = "Jogar";
 
-        MoveEntry winner = new MoveEntry("Jogador 1", "Jogada Pedra");
-
-        when(moveEntryRepository.countEntries()).thenReturn(2);
-        when(moveEntryRepository.findMoveOnEntries("Spock")).thenReturn(false);
-        when(moveEntryRepository.findMoveOnEntries("Tesoura")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Papel")).thenReturn(false);
-        when(moveEntryRepository.findMoveOnEntries("Pedra")).thenReturn(true);
-        when(moveEntryRepository.findMoveOnEntries("Lagarto")).thenReturn(false);
-        when(moveEntryRepository.getWinnerMove("Pedra")).thenReturn(Collections.singletonList(winner));
-        when(gameRepository.lastGame()).thenReturn(-1);
-        when(moveEntryRepository.getEntries()).thenReturn(Optional.empty());
+        when(moveEntryRepository.takeEntries(GameService.DEFAULT_ROOM, 2)).thenReturn(Optional.empty());
 
-        assertThrows(DataNotFoundException.class, () -> gameService.insertMoveEntry(me));
+        assertThrows(BadRequestException.class, () -> gameService.insertMoveEntry(me));
+        verify(moveEntryRepository, never()).countEntries(GameService.DEFAULT_ROOM);
+        verify(gameRepository, never()).addGame(anyList());
     }
 
     @DisplayName("Testando a busca de jogos")
@@ -420,6 +413,23 @@ public class GameServiceTest {
         assertEquals(result, games);
     }
 
+    @DisplayName("Testando a busca paginada de jogos")
+    @Test
+    void whenCursorIsGivenThenReturnAPageOfGames() throws BadRequestException {
+        NavigableMap<Integer, List<MoveEntry>> page = new TreeMap<>();
+        page.put(3, Collections.singletonList(new MoveEntry("Jogador 1", "Jogada Pedra")));
+
+        when(gameRepository.findGames(2, GameService.DEFAULT_PAGE_SIZE)).thenReturn(page);
+
+        assertEquals(page, gameService.findGames(2, null));
+    }
+
+    @DisplayName("Testando a busca paginada de jogos com limite invalido")
+    @Test
+    void whenInvalidLimitIsGivenThenAnExceptionShouldBeThrown() {
+        assertThrows(BadRequestException.class, () -> gameService.findGames(null, GameService.MAX_PAGE_SIZE + 1));
+    }
+
     @DisplayName("Testando a busca de jogo por id")
     @Test
     void whenGameIdIsGivenThenReturnAGame() throws DataNotFoundException {
@@ -430,7 +440,7 @@ public class GameServiceTest {
         Map<Integer, List<MoveEntry>> game = new HashMap<>();
         game.put(id, entries);
 
-        when(gameRepository.findGameById(id)).thenReturn(game.entrySet().stream().findAny());
+        when(gameRepository.findGameById(id)).thenReturn(Optional.of(entries));
 
         List<MoveEntry> result = gameService.findGameById(id);
 
@@ -457,7 +467,7 @@ public class GameServiceTest {
         Map<Integer, List<MoveEntry>> game = new HashMap<>();
         game.put(id, entries);
 
-        when(gameRepository.findGameById(id)).thenReturn(game.entrySet().stream().findAny());
+        when(gameRepository.findGameById(id)).thenReturn(Optional.of(entries));
         doNothing().when(gameRepository).deleteGame(id);
 
         gameService.deleteGame(id);
@@ -476,4 +486,60 @@ public class GameServiceTest {
         assertThrows(DataNotFoundException.class, () -> gameService.deleteGame(id));
     }
 
+    @DisplayName("Testando a realização de várias rodadas em lote")
+    @Test
+    void whenRoundsAreSentInBatchThenAllGamesAreStoredAtOnce() throws DataNotFoundException, BadRequestException,
+            DataConflictException {
+        List<List<String>> rounds = Arrays.asList(
+                Arrays.asList("Jogador 1 e Jogada Pedra", "Jogador 2 e Jogada Tesoura"),
+                Arrays.asList("Jogador 1 e Jogada Pedra", "Jogador 2 e Jogada Pedra"));
+
+        when(playerRepository.findPlayer(anyString())).thenReturn(true);
+        when(moveRepository.findMove(anyString())).thenReturn(true);
+        when(gameRepository.addGames(anyList())).thenReturn(0);
+
+        List<String> results = gameService.insertRounds(rounds);
+
+        assertEquals(Arrays.asList("Resultado Jogador 1 Vitória", OutcomeResolver.DRAW), results);
+        verify(gameRepository, times(1)).addGames(Arrays.asList(
+                Arrays.asList(new MoveEntry("Jogador 1", "Jogada Pedra"), new MoveEntry("Jogador 2", "Jogada Tesoura")),
+                Arrays.asList(new MoveEntry("Jogador 1", "Jogada Pedra"), new MoveEntry("Jogador 2", "Jogada Pedra"))));
+    }
+
+    @DisplayName("Testando um lote com jogador repetido na mesma rodada")
+    @Test
+    void whenBatchRoundRepeatsAPlayerThenAnExceptionShouldBeThrown() {
+        List<List<String>> rounds = Collections.singletonList(
+                Arrays.asList("Jogador 1 e Jogada Pedra", "jogador 1 e Jogada Papel"));
+
+        when(playerRepository.findPlayer(anyString())).thenReturn(true);
+        when(moveRepository.findMove(anyString())).thenReturn(true);
+
+        assertThrows(DataConflictException.class, () -> gameService.insertRounds(rounds));
+        verify(gameRepository, never()).addGames(anyList());
+    }
+
+    @DisplayName("Testando as estatísticas de um jogador sem jogos")
+    @Test
+    void whenRegisteredPlayerHasNoGamesThenReturnEmptyStats() throws DataNotFoundException {
+        Player player = new Player("Jogador 1");
+
+        when(playerStatsIndex.findStats(player.getPlayer())).thenReturn(Optional.empty());
+        when(playerRepository.getPlayerByPlayer(player.getPlayer())).thenReturn(Optional.of(player));
+
+        PlayerStats stats = gameService.findPlayerStats(player.getPlayer());
+
+        assertEquals(0L, stats.getGames());
+        assertEquals(0L, (long) stats.getMoves().get("Spock"));
+    }
+
+    @DisplayName("Testando as estatísticas de um jogador nao cadastrado")
+    @Test
+    void whenStatsOfUnregisteredPlayerAreRequestedThenAnExceptionShouldBeThrown() {
+        when(playerStatsIndex.findStats("Jogador 9")).thenReturn(Optional.empty());
+        when(playerRepository.getPlayerByPlayer("Jogador 9")).thenReturn(Optional.empty());
+
+        assertThrows(DataNotFoundException.class, () -> gameService.findPlayerStats("Jogador 9"));
+    }
+
 }
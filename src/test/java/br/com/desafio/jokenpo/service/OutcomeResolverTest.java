@@ -0,0 +1,85 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.rule.RuleSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutcomeResolverTest {
+
+    private static final RuleSet RULES = RuleSet.CLASSIC;
+
+    @DisplayName("Testando a vitória de um único jogador")
+    @Test
+    void whenOneWinnerMoveIsPlayedThenReturnTheWinner() {
+        List<MoveEntry> entries = new ArrayList<>();
+        entries.add(new MoveEntry("Jogador 1", "Jogada Pedra"));
+        entries.add(new MoveEntry("Jogador 2", "Jogada Tesoura"));
+
+        assertEquals("Resultado Jogador 1 Vitória", OutcomeResolver.resolve(RULES, entries));
+    }
+
+    @DisplayName("Testando a vitória de mais de um jogador com a mesma jogada")
+    @Test
+    void whenManyPlayersShareTheWinnerMoveThenReturnAllWinners() {
+        List<MoveEntry> entries = new ArrayList<>();
+        entries.add(new MoveEntry("Jogador 1", "Jogada Spock"));
+        entries.add(new MoveEntry("Jogador 2", "Tesoura"));
+        entries.add(new MoveEntry("Jogador 3", "jogada spock"));
+
+        assertEquals("Resultado Jogador 1 e Jogador 3 Vitória", OutcomeResolver.resolve(RULES, entries));
+    }
+
+    @DisplayName("Testando um jogo empatado")
+    @Test
+    void whenNoMoveBeatsAllOthersThenReturnADraw() {
+        List<MoveEntry> entries = new ArrayList<>();
+        entries.add(new MoveEntry("Jogador 1", "Jogada Pedra"));
+        entries.add(new MoveEntry("Jogador 2", "Jogada Tesoura"));
+        entries.add(new MoveEntry("Jogador 3", "Jogada Papel"));
+
+        assertEquals(OutcomeResolver.DRAW, OutcomeResolver.resolve(RULES, entries));
+    }
+
+    @DisplayName("Testando um jogo com todos os jogadores usando a mesma jogada")
+    @Test
+    void whenAllPlayersUseTheSameMoveThenReturnADraw() {
+        List<MoveEntry> entries = new ArrayList<>();
+        entries.add(new MoveEntry("Jogador 1", "Jogada Lagarto"));
+        entries.add(new MoveEntry("Jogador 2", "Jogada Lagarto"));
+
+        assertEquals(OutcomeResolver.DRAW, OutcomeResolver.resolve(RULES, entries));
+    }
+
+    @DisplayName("Testando a tabela de resultados para cada jogada vencedora")
+    @Test
+    void whenMaskIsGivenThenReturnTheWinnerMove() {
+        int spock = 1, tesoura = 1 << 1, papel = 1 << 2, pedra = 1 << 3, lagarto = 1 << 4;
+
+        assertEquals(0, RULES.winner(spock | tesoura | pedra));
+        assertEquals(1, RULES.winner(tesoura | papel | lagarto));
+        assertEquals(2, RULES.winner(papel | pedra | spock));
+        assertEquals(3, RULES.winner(pedra | lagarto | tesoura));
+        assertEquals(4, RULES.winner(lagarto | spock | papel));
+        assertEquals(OutcomeResolver.NO_MOVE, RULES.winner(spock | tesoura | papel | pedra | lagarto));
+    }
+
+    @DisplayName("Testando que o código da jogada é resolvido uma vez e guardado na jogada")
+    @Test
+    void whenEntryIsResolvedThenItsMoveCodeIsKept() {
+        MoveEntry entry = new MoveEntry("Jogador 1", "jogada pedra");
+        assertEquals(MoveEntry.UNCODED, entry.getMoveCode());
+
+        assertEquals(RULES.moveCode("Pedra"), RULES.moveCode(entry));
+        assertEquals(RULES.moveCode("Pedra"), entry.getMoveCode());
+
+        entry.setMove("Jogada Papel");
+        assertEquals(MoveEntry.UNCODED, entry.getMoveCode());
+    }
+
+}
@@ -0,0 +1,38 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.PlayRequest;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayRequestParserTest {
+
+    @DisplayName("Testando a leitura de uma entrada com jogador e jogada")
+    @Test
+    void whenEntryHasPlayerAndMoveThenTheMoveIsTakenAfterTheLastSeparator() throws BadRequestException {
+        PlayRequest request = PlayRequestParser.parse("Maria e João e Jogada Pedra");
+
+        assertFalse(request.isPlay());
+        assertEquals("Maria e João", request.getPlayer());
+        assertEquals("Jogada Pedra", request.getMove());
+    }
+
+    @DisplayName("Testando a leitura de uma entrada Jogar")
+    @Test
+    void whenEntryContainsPlayThenAPlayRequestIsReturned() throws BadRequestException {
+        assertTrue(PlayRequestParser.parse("jOgAr").isPlay());
+        assertTrue(PlayRequestParser.parse("Jogador 1 e Jogar").isPlay());
+    }
+
+    @DisplayName("Testando a leitura de entradas invalidas")
+    @Test
+    void whenEntryIsMalformedThenAnExceptionShouldBeThrown() {
+        assertThrows(BadRequestException.class, () -> PlayRequestParser.parse("Teste"));
+        assertThrows(BadRequestException.class, () -> PlayRequestParser.parse("Jogador 1 e "));
+        assertThrows(BadRequestException.class, () -> PlayRequestParser.parse(" e Jogada Pedra"));
+        assertThrows(BadRequestException.class, () -> PlayRequestParser.parse(null));
+    }
+
+}
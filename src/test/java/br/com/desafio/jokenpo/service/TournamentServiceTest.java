@@ -0,0 +1,98 @@
+package br.com.desafio.jokenpo.service;
+
+import br.com.desafio.jokenpo.entity.Tournament;
+import br.com.desafio.jokenpo.entity.TournamentJob;
+import br.com.desafio.jokenpo.entity.TournamentStanding;
+import br.com.desafio.jokenpo.exception.BadRequestException;
+import br.com.desafio.jokenpo.exception.DataNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class TournamentServiceTest {
+
+    private final TournamentService tournamentService = new TournamentService();
+
+    @AfterEach
+    void tearDown() {
+        tournamentService.stop();
+    }
+
+    @DisplayName("Testando um torneio com jogadas aleatórias")
+    @Test
+    void whenRandomTournamentFinishesThenEveryRoundIsCounted() throws Exception {
+        long rounds = TournamentService.CHUNK_ROUNDS * 3L + 7;
+        TournamentJob job = tournamentService.startTournament(new Tournament(10, rounds, 3, 42));
+
+        TournamentJob finished = await(job.getId());
+
+        assertEquals(TournamentJob.Status.DONE, finished.getStatus());
+        assertEquals(rounds, finished.getCompletedRounds());
+        assertEquals(100.0, finished.getProgress());
+        long seats = finished.getStandings().stream().mapToLong(s -> s.getWins() + s.getDraws() + s.getLosses()).sum();
+        assertEquals(rounds * 3, seats);
+    }
+
+    @DisplayName("Testando um torneio com jogadas pelo roteiro dos jogadores")
+    @Test
+    void whenScriptedTournamentFinishesThenTheRulesAreApplied() throws Exception {
+        Tournament tournament = new Tournament(2, 1000, 2, 7);
+        tournament.setScripts(Arrays.asList(Collections.singletonList("Pedra"), Collections.singletonList("Jogada Tesoura")));
+
+        TournamentJob finished = await(tournamentService.startTournament(tournament).getId());
+
+        assertEquals(new TournamentStanding("Jogador 1", 1000, 0, 0), finished.getStandings().get(0));
+        assertEquals(new TournamentStanding("Jogador 2", 0, 0, 1000), finished.getStandings().get(1));
+    }
+
+    @DisplayName("Testando um torneio com roteiro invalido")
+    @Test
+    void whenScriptHasAnInvalidMoveThenAnExceptionShouldBeThrown() {
+        Tournament tournament = new Tournament(2, 10, 2, 0);
+        tournament.setScripts(Collections.singletonList(Collections.singletonList("Jogada Fogo")));
+
+        assertThrows(BadRequestException.class, () -> tournamentService.startTournament(tournament));
+        assertThrows(BadRequestException.class, () -> tournamentService.startTournament(new Tournament(2, 10, 3, 0)));
+        assertThrows(DataNotFoundException.class, () -> tournamentService.findTournament(99));
+    }
+
+    @DisplayName("Testando que a mesma semente sempre produz a mesma classificação")
+    @Test
+    void whenTheSameTournamentRunsTwiceThenTheStandingsAreEqual() throws Exception {
+        long rounds = TournamentService.CHUNK_ROUNDS * 8L + 11;
+
+        TournamentJob first = await(tournamentService.startTournament(new Tournament(50, rounds, 4, 99)).getId());
+        TournamentJob second = await(tournamentService.startTournament(new Tournament(50, rounds, 4, 99)).getId());
+
+        assertEquals(TournamentJob.Status.DONE, first.getStatus());
+        assertEquals(first.getStandings(), second.getStandings());
+    }
+
+    @DisplayName("Testando que torneios além do limite em andamento são recusados")
+    @Test
+    void whenTooManyTournamentsAreRunningThenAnExceptionShouldBeThrown() throws Exception {
+        setField(tournamentService, "maxRunning", 1);
+        TournamentJob running = tournamentService.startTournament(new Tournament(10, TournamentService.CHUNK_ROUNDS * 256L, 3, 1));
+
+        assertThrows(BadRequestException.class, () -> tournamentService.startTournament(new Tournament(2, 10, 2, 0)));
+
+        assertEquals(TournamentJob.Status.DONE, await(running.getId()).getStatus());
+        assertNotNull(tournamentService.startTournament(new Tournament(2, 10, 2, 0)));
+    }
+
+    private TournamentJob await(Integer id) throws Exception {
+        TournamentJob job = tournamentService.findTournament(id);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (job.getStatus() == TournamentJob.Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return job;
+    }
+
+}
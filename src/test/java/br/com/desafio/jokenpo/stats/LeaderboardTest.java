@@ -0,0 +1,56 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.LeaderboardEntry;
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class LeaderboardTest {
+
+    @DisplayName("Testando a classificação limitada aos melhores jogadores")
+    @Test
+    void whenPlayersWinThenTheTopTierFollowsTheirWins() {
+        PlayerStatsIndex playerStatsIndex = new PlayerStatsIndex();
+        Leaderboard leaderboard = new Leaderboard();
+        setField(leaderboard, "playerStatsIndex", playerStatsIndex);
+        setField(leaderboard, "capacity", 2);
+        setField(leaderboard, "minGames", 2L);
+        GameRepository gameRepository = new InMemoryGameRepository();
+        setField(gameRepository, "listeners", Arrays.asList(playerStatsIndex, leaderboard));
+
+        win(gameRepository, "Ranking A", "Ranking Z");
+        win(gameRepository, "Ranking A", "Ranking Z");
+        win(gameRepository, "Ranking B", "Ranking Z");
+        int lastWin = win(gameRepository, "Ranking C", "Ranking Z");
+        win(gameRepository, "Ranking C", "Ranking Z");
+        win(gameRepository, "Ranking C", "Ranking Z");
+
+        assertEquals(Arrays.asList("Ranking C", "Ranking A"), players(leaderboard.top(Leaderboard.Criterion.WINS, 10)));
+        assertEquals(3L, leaderboard.top(Leaderboard.Criterion.WINS, 1).get(0).getWins());
+        assertEquals(1.0, leaderboard.top(Leaderboard.Criterion.WIN_RATE, 1).get(0).getWinRate());
+
+        gameRepository.deleteGame(lastWin);
+        win(gameRepository, "Ranking B", "Ranking Z");
+        win(gameRepository, "Ranking B", "Ranking Z");
+
+        assertEquals(Arrays.asList("Ranking B", "Ranking A"), players(leaderboard.top(Leaderboard.Criterion.WINS, 10)));
+    }
+
+    private static int win(GameRepository gameRepository, String winner, String loser) {
+        return gameRepository.addGame(Arrays.asList(new MoveEntry(winner, "Jogada Pedra"), new MoveEntry(loser, "Jogada Tesoura")));
+    }
+
+    private static List<String> players(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getPlayer).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,42 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.PlayerStats;
+import br.com.desafio.jokenpo.repository.GameRepository;
+import br.com.desafio.jokenpo.repository.memory.InMemoryGameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class PlayerStatsIndexTest {
+
+    @DisplayName("Testando a atualização das estatísticas ao incluir e excluir jogos")
+    @Test
+    void whenGamesAreAddedAndDeletedThenTheStatsFollow() {
+        PlayerStatsIndex playerStatsIndex = new PlayerStatsIndex();
+        GameRepository gameRepository = new InMemoryGameRepository();
+        setField(gameRepository, "listeners", Collections.singletonList(playerStatsIndex));
+
+        gameRepository.addGame(Arrays.asList(new MoveEntry("Estatística 1", "Jogada Pedra"), new MoveEntry("Estatística 2", "Jogada Tesoura")));
+        int draw = gameRepository.addGame(Arrays.asList(new MoveEntry("Estatística 1", "Jogada Papel"), new MoveEntry("Estatística 2", "Jogada Papel")));
+        gameRepository.addGames(Collections.singletonList(
+                Arrays.asList(new MoveEntry("Estatística 1", "Jogada Pedra"), new MoveEntry("Estatística 2", "Jogada Papel"))));
+        gameRepository.deleteGame(draw);
+        gameRepository.deleteGame(draw);
+
+        PlayerStats first = playerStatsIndex.findStats("estatística 1").orElseThrow();
+        assertEquals(2L, first.getGames());
+        assertEquals(1L, first.getWins());
+        assertEquals(1L, first.getLosses());
+        assertEquals(0L, first.getDraws());
+        assertEquals(2L, (long) first.getMoves().get("Pedra"));
+        assertEquals(0L, (long) first.getMoves().get("Papel"));
+        assertFalse(playerStatsIndex.findStats("Estatística 3").isPresent());
+    }
+
+}
@@ -0,0 +1,127 @@
+package br.com.desafio.jokenpo.stats;
+
+import br.com.desafio.jokenpo.entity.MoveEntry;
+import br.com.desafio.jokenpo.entity.WindowStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+public class RecentActivityTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private RecentActivity recentActivity;
+
+    @BeforeEach
+    void setUp() {
+        recentActivity = new RecentActivity();
+        setField(recentActivity, "clock", (LongSupplier) now::get);
+        setField(recentActivity, "maxMinutes", 2);
+        setField(recentActivity, "lastGames", 3);
+        recentActivity.start();
+    }
+
+    @DisplayName("Testando a janela de minutos descartando as rodadas antigas")
+    @Test
+    void whenRoundsAreOlderThanTheWindowThenTheyAreNotCounted() {
+        play("Janela A", "Jogada Pedra", "Janela B", "Jogada Tesoura");
+        now.addAndGet(90_000);
+        play("Janela A", "Jogada Pedra", "Janela B", "Jogada Pedra");
+
+        WindowStats lastMinute = recentActivity.lastMinutes(1);
+        assertEquals(1L, lastMinute.getRounds());
+        assertEquals(2L, (long) lastMinute.getMoves().get("Pedra"));
+        assertEquals(1.0, lastMinute.getDrawRate());
+        assertEquals(2L, recentActivity.lastMinutes(2).getRounds());
+
+        now.addAndGet(120_000);
+        assertEquals(0L, recentActivity.lastMinutes(2).getRounds());
+    }
+
+    @DisplayName("Testando a janela dos últimos jogos")
+    @Test
+    void whenMoreGamesThanTheRingAreRecordedThenOnlyTheLastOnesAreCounted() {
+        play("Janela A", "Jogada Pedra", "Janela B", "Jogada Pedra");
+        play("Janela A", "Jogada Pedra", "Janela B", "Jogada Tesoura");
+        play("Janela A", "Jogada Papel", "Janela B", "Jogada Pedra");
+        play("Janela A", "Jogada Papel", "Janela B", "Jogada Papel");
+
+        WindowStats lastGames = recentActivity.lastGames(3);
+        assertEquals(3L, lastGames.getRounds());
+        assertEquals(1L, (long) lastGames.getOutcomes().get("Pedra"));
+        assertEquals(1L, (long) lastGames.getOutcomes().get("Papel"));
+        assertEquals(1L, (long) lastGames.getOutcomes().get("Empate"));
+        assertEquals(1.0, recentActivity.lastGames(1).getDrawRate());
+    }
+
+    @DisplayName("Testando que um jogo apagado sai das janelas")
+    @Test
+    void whenGameIsDeletedThenItLeavesTheWindows() {
+        play(1, "Janela A", "Jogada Pedra", "Janela B", "Jogada Tesoura");
+        List<MoveEntry> deleted = play(2, "Janela A", "Jogada Papel", "Janela B", "Jogada Pedra");
+
+        recentActivity.gameDeleted(2, deleted);
+
+        WindowStats lastMinute = recentActivity.lastMinutes(1);
+        assertEquals(1L, lastMinute.getRounds());
+        assertEquals(1L, (long) lastMinute.getMoves().get("Pedra"));
+        assertEquals(0L, (long) lastMinute.getMoves().get("Papel"));
+        assertEquals(0L, (long) lastMinute.getOutcomes().get("Papel"));
+        assertEquals(1L, recentActivity.lastGames(3).getRounds());
+    }
+
+    @DisplayName("Testando que rodadas concorrentes na virada do segundo não se perdem")
+    @Test
+    void whenRoundsRaceWithTheBucketRollThenEveryRoundIsCounted() throws Exception {
+        setField(recentActivity, "lastGames", 10000);
+        recentActivity.start();
+        int threads = 4;
+        int rounds = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int first = t * rounds;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    if (i % 100 == 0) {
+                        now.addAndGet(1000);
+                    }
+                    play(first + i, "Janela A", "Jogada Pedra", "Janela B", "Jogada Tesoura");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals((long) threads * rounds, recentActivity.lastMinutes(2).getRounds());
+    }
+
+    private List<MoveEntry> play(String player, String move, String other, String otherMove) {
+        return play(0, player, move, other, otherMove);
+    }
+
+    private List<MoveEntry> play(int id, String player, String move, String other, String otherMove) {
+        List<MoveEntry> entries = Arrays.asList(new MoveEntry(player, move), new MoveEntry(other, otherMove));
+        recentActivity.gameAdded(id, entries);
+        return entries;
+    }
+
+}